@@ -15,9 +15,11 @@ import edu.hm.hafner.grading.MetricScore.MetricScoreBuilder;
 import edu.hm.hafner.grading.TestScore.TestScoreBuilder;
 import edu.hm.hafner.util.FilteredLog;
 import edu.hm.hafner.util.Generated;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -40,6 +42,8 @@ public final class AggregatedScore implements Serializable {
     @Serial
     private static final long serialVersionUID = 15L;
     private static final int MAX_PERCENTAGE = 100;
+    /** Suffix of the metric that counts the files that lost coverage, e.g. {@code line-regressions}. */
+    static final String REGRESSIONS_SUFFIX = "-regressions";
 
     private final FilteredLog log;
 
@@ -48,6 +52,11 @@ public final class AggregatedScore implements Serializable {
     private final ArrayList<AnalysisScore> analysisScores = new ArrayList<>();
     private final ArrayList<MetricScore> metricScores = new ArrayList<>();
 
+    @CheckForNull
+    private transient ReferenceResults referenceResults; // only required while grading
+    @CheckForNull
+    private transient Instant deadline; // only required while grading
+
     private static FilteredLog createNullLogger() {
         return new FilteredLog("Autograding");
     }
@@ -66,6 +75,18 @@ public final class AggregatedScore implements Serializable {
         this.log = log;
     }
 
+    /**
+     * Sets the deadline for reading the reports. If the reports of a tool have not been read until the deadline, then
+     * reading is cancelled and the tool will be graded with empty results. Additionally, each tool may define its own
+     * {@link ToolConfiguration#getTimeout() timeout}.
+     *
+     * @param deadline
+     *         the deadline for reading all reports
+     */
+    void setDeadline(final Instant deadline) {
+        this.deadline = deadline;
+    }
+
     public List<String> getInfoMessages() {
         return log.getInfoMessages();
     }
@@ -266,6 +287,19 @@ public final class AggregatedScore implements Serializable {
                 .toList();
     }
 
+    /**
+     * Returns the issues that have been reported by the static analysis tools but that are not part of the reference
+     * results. If there are no reference results for a tool, then all issues of this tool are returned.
+     *
+     * @return the new issues
+     */
+    public List<Issue> getNewIssues() {
+        return getAnalysisScores().stream()
+                .map(score -> score.hasDelta() ? score.getNewIssues() : score.getReport().stream().toList())
+                .flatMap(List::stream)
+                .toList();
+    }
+
     /**
      * Returns the covered files for the specified metric.
      *
@@ -337,7 +371,7 @@ public final class AggregatedScore implements Serializable {
      */
     void gradeAnalysis(final ToolParser factory,
             final List<AnalysisConfiguration> analysisConfigurations, final String deltaReports) {
-        grade(factory, analysisConfigurations, new AnalysisScoreBuilder(deltaReports), analysisScores::add);
+        grade(factory, analysisConfigurations, new AnalysisScoreBuilder(getReferenceResults(deltaReports)), analysisScores::add);
     }
 
     /**
@@ -352,7 +386,7 @@ public final class AggregatedScore implements Serializable {
      */
     void gradeCoverage(final ToolParser factory,
             final List<CoverageConfiguration> coverageConfigurations, final String deltaReports) {
-        grade(factory, coverageConfigurations, new CoverageScoreBuilder(deltaReports), coverageScores::add);
+        grade(factory, coverageConfigurations, new CoverageScoreBuilder(getReferenceResults(deltaReports)), coverageScores::add);
     }
 
     /**
@@ -367,7 +401,7 @@ public final class AggregatedScore implements Serializable {
      */
     void gradeTests(final ToolParser factory,
                            final List<TestConfiguration> testConfigurations, final String deltaReports) {
-        grade(factory, testConfigurations, new TestScoreBuilder(deltaReports), testScores::add);
+        grade(factory, testConfigurations, new TestScoreBuilder(getReferenceResults(deltaReports)), testScores::add);
     }
 
     /**
@@ -382,7 +416,14 @@ public final class AggregatedScore implements Serializable {
      */
     void gradeMetrics(final ToolParser factory,
                              final List<MetricConfiguration> metricConfigurations, final String deltaReports) {
-        grade(factory, metricConfigurations, new MetricScoreBuilder(deltaReports), metricScores::add);
+        grade(factory, metricConfigurations, new MetricScoreBuilder(getReferenceResults(deltaReports)), metricScores::add);
+    }
+
+    private ReferenceResults getReferenceResults(final String deltaReports) {
+        if (referenceResults == null || !referenceResults.getDirectory().equals(deltaReports)) {
+            referenceResults = new ReferenceResults(deltaReports);
+        }
+        return referenceResults;
     }
 
     private <S extends Score<S, C>, C extends Configuration> void grade(final ToolParser factory,
@@ -395,7 +436,9 @@ public final class AggregatedScore implements Serializable {
             List<S> scores = new ArrayList<>();
             for (var tool : configuration.getTools()) {
                 builder.setConfiguration(configuration);
-                builder.read(factory, tool, log);
+                var parser = DeadlineToolParser.create(factory, tool, deadline);
+                builder.read(parser, tool, log);
+                builder.setTimedOut(DeadlineToolParser.isTimedOut(parser));
                 builder.setName(tool.getName());
 
                 var score = builder.build();
@@ -417,7 +460,7 @@ public final class AggregatedScore implements Serializable {
 
     private void logSubResult(final Score<?, ?> score) {
         if (!score.hasMaxScore()) {
-            log.logInfo("=> %s: %s [%s]", score.getName(), score.createSummary(), score.getScope().getDisplayName());
+            log.logInfo("=> %s: %s [%s]", score.getName(), score.getSummary(), score.getScope().getDisplayName());
         }
     }
 
@@ -428,7 +471,7 @@ public final class AggregatedScore implements Serializable {
         }
         else {
             log.logInfo("=> %s: %s [%s]",
-                    subConfiguration.getName(), score.createSummary(), score.getScope().getDisplayName());
+                    subConfiguration.getName(), score.getSummary(), score.getScope().getDisplayName());
         }
     }
 
@@ -453,6 +496,12 @@ public final class AggregatedScore implements Serializable {
                     .map(Score::getSubScores)
                     .flatMap(Collection::stream)
                     .forEach(score -> statistics.add(score.getCoverage(), score.getScope(), score.getMetricTagName()));
+            getCoverageScores().stream()
+                    .map(Score::getSubScores)
+                    .flatMap(Collection::stream)
+                    .filter(Score::hasDelta)
+                    .forEach(score -> statistics.add(score.getFileRegressions().size(),
+                            score.getScope(), score.getMetricTagName() + REGRESSIONS_SUFFIX));
         }
         if (hasAnalysis()) {
             getAnalysisScores().stream()
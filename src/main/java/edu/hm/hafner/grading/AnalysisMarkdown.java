@@ -2,8 +2,6 @@ package edu.hm.hafner.grading;
 
 import org.apache.commons.lang3.StringUtils;
 
-import edu.hm.hafner.analysis.ReportFormatter;
-import edu.hm.hafner.analysis.registry.ParserRegistry;
 import edu.hm.hafner.grading.TruncatedString.TruncatedStringBuilder;
 
 import java.util.List;
@@ -17,12 +15,8 @@ import java.util.function.Function;
  * @author Jannik Ohme
  */
 public class AnalysisMarkdown extends ScoreMarkdown<AnalysisScore, AnalysisConfiguration> {
-    private static final ParserRegistry REGISTRY = new ParserRegistry();
-
     static final String TYPE = "Static Analysis Score";
 
-    private static final ReportFormatter FORMATTER = new ReportFormatter();
-
     /**
      * Creates a new Markdown renderer for static analysis results.
      */
@@ -37,27 +31,27 @@ public class AnalysisMarkdown extends ScoreMarkdown<AnalysisScore, AnalysisConfi
 
     @Override
     String createScoreSummary(final AnalysisScore score) {
-        var report = score.getReport();
-
-        var title = FORMATTER.formatSizeOfElements(report);
+        var title = score.getSizeSummary();
         var delta = score.hasDelta() ? " " + delta(score.getTotalSizeDelta(), true) : StringUtils.EMPTY;
         if (score.isEmpty()) {
             return title + delta;
         }
-        return title + delta + " " + MDASH + " " + FORMATTER.formatSeverities(report);
+        return title + delta + " " + MDASH + " " + score.getSeveritySummary();
     }
 
     @Override
-    String createSpecificDetails(final List<AnalysisScore> scores) {
+    String createSpecificDetails(final List<AnalysisScore> scores, final int maxSize) {
         var details = new TruncatedStringBuilder();
         for (AnalysisScore score : scores) {
             details.addText(getTitle(score, 2))
                     .addParagraph()
                     .addText(formatColumns("Icon", "Name", "Scope", "Warnings"))
+                    .addTextIf(formatColumns("New", "Fixed"), score.hasDelta())
                     .addTextIf(formatColumns("Impact"), score.hasMaxScore())
                     .addText(formatColumns("Status"))
                     .addNewline()
                     .addText(formatColumns(":-:", ":-:", ":-:", ":-:"))
+                    .addTextIf(formatColumns(":-:", ":-:"), score.hasDelta())
                     .addTextIf(formatColumns(":-:"), score.hasMaxScore())
                     .addText(formatColumns(":-:"))
                     .addNewline();
@@ -65,6 +59,7 @@ public class AnalysisMarkdown extends ScoreMarkdown<AnalysisScore, AnalysisConfi
             score.getSubScores().forEach(subScore -> details
                     .addText(formatColumns(getIcon(subScore), subScore.getName(), subScore.getScope().getDisplayName(),
                             deltaCell(subScore.hasDelta(), subScore.getTotalSize(), subScore.getTotalSizeDelta(), false)))
+                    .addTextIf(formatIssueDelta(subScore), score.hasDelta())
                     .addTextIf(formatColumns(String.valueOf(subScore.getImpact())), score.hasMaxScore())
                     .addText(subScore.isEmpty() ? formatColumns(CHECK) : formatColumns(WARNING))
                     .addNewline());
@@ -74,6 +69,8 @@ public class AnalysisMarkdown extends ScoreMarkdown<AnalysisScore, AnalysisConfi
                                 deltaCell(score.hasDelta(),
                                         sum(score, AnalysisScore::getTotalSize),
                                         sum(score, AnalysisScore::getTotalSizeDelta), false)))
+                        .addTextIf(formatBoldColumns(sum(score, AnalysisScore::getNewSize),
+                                sum(score, AnalysisScore::getFixedSize)), score.hasDelta())
                         .addTextIf(formatBoldColumns(sum(score, AnalysisScore::getImpact)), score.hasMaxScore())
                         .addText(score.isEmpty() ? formatColumns(CHECK) : formatColumns(WARNING))
                         .addNewline();
@@ -81,7 +78,14 @@ public class AnalysisMarkdown extends ScoreMarkdown<AnalysisScore, AnalysisConfi
 
             details.addNewline();
         }
-        return details.build().buildByChars(MARKDOWN_MAX_SIZE);
+        return details.build().buildByChars(maxSize);
+    }
+
+    private String formatIssueDelta(final AnalysisScore score) {
+        if (score.hasDelta()) {
+            return formatColumns(score.getNewSize(), score.getFixedSize());
+        }
+        return formatColumns(EMPTY, EMPTY);
     }
 
     private int sum(final AnalysisScore score, final Function<AnalysisScore, Integer> property) {
@@ -91,8 +95,8 @@ public class AnalysisMarkdown extends ScoreMarkdown<AnalysisScore, AnalysisConfi
     @Override
     protected String getToolIcon(final AnalysisScore score) {
         var parserId = score.getReport().getId();
-        if (REGISTRY.contains(parserId)) {
-            var descriptor = REGISTRY.get(parserId);
+        if (ParserDescriptors.contains(parserId)) {
+            var descriptor = ParserDescriptors.get(parserId);
             if (!descriptor.getIconUrl().isBlank()) {
                 return format("<img src=\"%s\" alt=\"%s\" width=\"%d\">",
                         descriptor.getIconUrl(), score.getName(), ICON_SIZE);
@@ -5,7 +5,9 @@ import org.apache.commons.lang3.ObjectUtils;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 
+import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.ReportFormatter;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.coverage.Metric;
 import edu.hm.hafner.coverage.Value;
@@ -13,9 +15,14 @@ import edu.hm.hafner.util.FilteredLog;
 import edu.hm.hafner.util.Generated;
 
 import java.io.Serial;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static edu.hm.hafner.analysis.Severity.*;
 
@@ -41,7 +48,14 @@ public final class AnalysisScore extends Score<AnalysisScore, AnalysisConfigurat
     private /* almost final */ int normalSeveritySizeDelta;
     private /* almost final */ int lowSeveritySizeDelta;
 
+    private /* almost final */ int newSize;
+    private /* almost final */ int outstandingSize;
+    private /* almost final */ int fixedSize;
+
+    private static final ReportFormatter FORMATTER = new ReportFormatter();
+
     private transient Report report; // do not persist the issues
+    private transient Set<UUID> newIssues; // do not persist the issues
 
     private AnalysisScore(final String name, final String icon, final Scope scope,
             final AnalysisConfiguration configuration, final List<AnalysisScore> scores) {
@@ -57,9 +71,15 @@ public final class AnalysisScore extends Score<AnalysisScore, AnalysisConfigurat
         this.normalSeveritySizeDelta = sum(scores, AnalysisScore::getNormalSeveritySizeDelta);
         this.lowSeveritySizeDelta = sum(scores, AnalysisScore::getLowSeveritySizeDelta);
 
+        this.newSize = sum(scores, AnalysisScore::getNewSize);
+        this.outstandingSize = sum(scores, AnalysisScore::getOutstandingSize);
+        this.fixedSize = sum(scores, AnalysisScore::getFixedSize);
+
         this.report = new Report();
+        this.newIssues = new HashSet<>();
 
         scores.stream().map(AnalysisScore::getReport).forEach(report::addAll);
+        scores.stream().map(AnalysisScore::getNewIssueIds).forEach(newIssues::addAll);
     }
 
     private int sum(final List<AnalysisScore> scores, final Function<AnalysisScore, Integer> property) {
@@ -76,11 +96,20 @@ public final class AnalysisScore extends Score<AnalysisScore, AnalysisConfigurat
         this.lowSeveritySize = report.getSizeOf(WARNING_LOW);
 
         this.report = report;
+        this.newIssues = Set.of();
     }
 
     private AnalysisScore(final String name, final String icon, final Scope scope,
-            final AnalysisConfiguration configuration, final Report report) {
-        this(name, icon, scope, configuration, report, false);
+            final AnalysisConfiguration configuration, final RetainedIssues issues) {
+        super(name, icon, scope, configuration, false);
+
+        this.errorSize = issues.getSizeOf(ERROR);
+        this.highSeveritySize = issues.getSizeOf(WARNING_HIGH);
+        this.normalSeveritySize = issues.getSizeOf(WARNING_NORMAL);
+        this.lowSeveritySize = issues.getSizeOf(WARNING_LOW);
+
+        this.report = issues.getReport();
+        this.newIssues = Set.of();
     }
 
     private AnalysisScore(final String name, final String icon, final Scope scope,
@@ -91,22 +120,62 @@ public final class AnalysisScore extends Score<AnalysisScore, AnalysisConfigurat
         this.highSeveritySizeDelta = this.highSeveritySize - deltaReport.getSizeOf(WARNING_HIGH);
         this.normalSeveritySizeDelta = this.normalSeveritySize - deltaReport.getSizeOf(WARNING_NORMAL);
         this.lowSeveritySizeDelta = this.lowSeveritySize - deltaReport.getSizeOf(WARNING_LOW);
+
+        var issueDelta = IssueDelta.compute(report, deltaReport);
+        this.newSize = issueDelta.getNewSize();
+        this.outstandingSize = issueDelta.getOutstandingSize();
+        this.fixedSize = issueDelta.getFixedSize();
+        this.newIssues = issueDelta.getNewIssues();
+    }
+
+    /**
+     * Discards the issues that should not be retained according to the specified retention policy. The counters of
+     * the issues are not changed. This method is used for scores that compute the delta to a reference build, since
+     * the delta requires all issues. Otherwise, the issues are already discarded while the reports are read.
+     *
+     * @param retention
+     *         the retention policy
+     * @param maxIssues
+     *         the maximum number of issues outside the modified code to retain
+     */
+    void retain(final IssueRetention retention, final int maxIssues) {
+        var retained = retention.retain(getReport(), maxIssues);
+        if (retained != report) {
+            report = retained;
+            newIssues = retained.stream()
+                    .map(Issue::getId)
+                    .filter(getNewIssueIds()::contains)
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    /**
+     * Returns whether the report of this score contains all issues. If some issues have been discarded due to the
+     * {@link IssueRetention retention policy}, then only the counters of this score are complete.
+     *
+     * @return {@code true} if all issues are available, {@code false} if issues have been discarded
+     */
+    public boolean hasAllIssues() {
+        return getReport().size() == getTotalSize();
     }
 
     /**
-     * Restore an empty report after deserialization.
+     * Restore an empty report after deserialization and compute the derived values if they have not been stored.
      *
      * @return this
      */
     @Serial @CanIgnoreReturnValue
     private Object readResolve() {
         report = new Report();
+        newIssues = Set.of();
+
+        freezeIfRequired();
 
         return this;
     }
 
     @Override
-    public int getImpact() {
+    protected int computeImpact() {
         var analysisConfiguration = getConfiguration();
 
         int change = 0;
@@ -192,6 +261,61 @@ public final class AnalysisScore extends Score<AnalysisScore, AnalysisConfigurat
         return getErrorSizeDelta() + getHighSeveritySizeDelta() + getNormalSeveritySizeDelta() + getLowSeveritySizeDelta();
     }
 
+    /**
+     * Returns the number of issues that are part of the current results but not of the reference results.
+     *
+     * @return the number of new issues, or 0 if there are no reference results
+     */
+    public int getNewSize() {
+        return newSize;
+    }
+
+    /**
+     * Returns the number of issues that are part of the current results and of the reference results.
+     *
+     * @return the number of outstanding issues, or 0 if there are no reference results
+     */
+    public int getOutstandingSize() {
+        return outstandingSize;
+    }
+
+    /**
+     * Returns the number of issues that are part of the reference results but not of the current results.
+     *
+     * @return the number of fixed issues, or 0 if there are no reference results
+     */
+    public int getFixedSize() {
+        return fixedSize;
+    }
+
+    /**
+     * Returns whether the specified issue is new, i.e., it has no counterpart in the reference results.
+     *
+     * @param issue
+     *         the issue to check
+     *
+     * @return {@code true} if the issue is new, {@code false} if the issue is outstanding or if there are no
+     *         reference results
+     */
+    public boolean isNew(final Issue issue) {
+        return getNewIssueIds().contains(issue.getId());
+    }
+
+    /**
+     * Returns the new issues of this score, i.e., the issues that have no counterpart in the reference results. The
+     * issues are classified when the score is created, so this method does not compare any issues.
+     *
+     * @return the new issues, or an empty list if there are no reference results
+     */
+    @JsonIgnore
+    public List<Issue> getNewIssues() {
+        return getReport().stream().filter(this::isNew).toList();
+    }
+
+    private Set<UUID> getNewIssueIds() {
+        return ObjectUtils.getIfNull(newIssues, Set.of());
+    }
+
     private Metric mapType() {
         return switch (getReport().getElementType()) {
             case WARNING -> Metric.WARNINGS;
@@ -203,10 +327,47 @@ public final class AnalysisScore extends Score<AnalysisScore, AnalysisConfigurat
 
     @Override
     protected String createSummary() {
-        if (getReport().isEmpty()) {
-            return getReport().getSummary();
+        if (hasAllIssues()) {
+            if (getReport().isEmpty()) {
+                return getReport().getSummary();
+            }
+            return getReport().getSummary() + getReport().getSeverityDistribution();
+        }
+        return String.format(Locale.ENGLISH, "%s (%s)", getSizeSummary(), getSeveritySummary());
+    }
+
+    /**
+     * Returns a summary of the number of issues, e.g. "10 warnings". The summary is computed from the counters, so it
+     * is correct even if issues have been discarded.
+     *
+     * @return the number of issues
+     */
+    String getSizeSummary() {
+        if (hasAllIssues()) {
+            return FORMATTER.formatSizeOfElements(getReport());
+        }
+        var plural = getTotalSize() != 1;
+        var element = switch (getReport().getElementType()) {
+            case WARNING -> plural ? "warnings" : "warning";
+            case BUG -> plural ? "bugs" : "bug";
+            case DUPLICATION -> plural ? "duplications" : "duplication";
+            case VULNERABILITY -> plural ? "vulnerabilities" : "vulnerability";
+        };
+        return getTotalSize() + " " + element;
+    }
+
+    /**
+     * Returns a summary of the number of issues per severity, e.g. "error: 1, high: 2, normal: 3, low: 4". The summary
+     * is computed from the counters, so it is correct even if issues have been discarded.
+     *
+     * @return the number of issues per severity
+     */
+    String getSeveritySummary() {
+        if (hasAllIssues()) {
+            return FORMATTER.formatSeverities(getReport());
         }
-        return getReport().getSummary() + getReport().getSeverityDistribution();
+        return String.format(Locale.ENGLISH, "error: %d, high: %d, normal: %d, low: %d",
+                getErrorSize(), getHighSeveritySize(), getNormalSeveritySize(), getLowSeveritySize());
     }
 
     @Override
@@ -226,20 +387,27 @@ public final class AnalysisScore extends Score<AnalysisScore, AnalysisConfigurat
                 && errorSizeDelta == that.errorSizeDelta
                 && highSeveritySizeDelta == that.highSeveritySizeDelta
                 && normalSeveritySizeDelta == that.normalSeveritySizeDelta
-                && lowSeveritySizeDelta == that.lowSeveritySizeDelta;
+                && lowSeveritySizeDelta == that.lowSeveritySizeDelta
+                && newSize == that.newSize
+                && outstandingSize == that.outstandingSize
+                && fixedSize == that.fixedSize;
     }
 
     @Override
     @Generated
     public int hashCode() {
         return Objects.hash(super.hashCode(), errorSize, highSeveritySize, normalSeveritySize, lowSeveritySize,
-                errorSizeDelta, highSeveritySizeDelta, normalSeveritySizeDelta, lowSeveritySizeDelta);
+                errorSizeDelta, highSeveritySizeDelta, normalSeveritySizeDelta, lowSeveritySizeDelta,
+                newSize, outstandingSize, fixedSize);
     }
 
     /**
      * A builder for {@link AnalysisScore} instances.
      */
     static class AnalysisScoreBuilder extends ScoreBuilder<AnalysisScore, AnalysisConfiguration> {
+        private IssueRetention retention = IssueRetention.ALL;
+        private int maxIssues;
+
         AnalysisScoreBuilder() {
             this(NO_DELTA_REPORTS);
         }
@@ -248,21 +416,31 @@ public final class AnalysisScore extends Score<AnalysisScore, AnalysisConfigurat
             super(deltaReportsPath);
         }
 
+        AnalysisScoreBuilder(final ReferenceResults referenceResults) {
+            super(referenceResults);
+        }
+
         @Override
-        AnalysisScore aggregate(final List<AnalysisScore> scores) {
+        AnalysisScore createAggregation(final List<AnalysisScore> scores) {
             return new AnalysisScore(getTopLevelName(), getIcon(), getScope(), getConfiguration(), scores);
         }
 
         @Override
-        AnalysisScore build() {
+        AnalysisScore createScore() {
             if (hasDelta()) {
-                return new AnalysisScore(getName(), getIcon(), getScope(), getConfiguration(), getReport(), getDeltaReport());
+                var score = new AnalysisScore(getName(), getIcon(), getScope(), getConfiguration(), getReport(),
+                        getDeltaReport());
+                score.retain(retention, maxIssues); // the issue delta requires all issues
+                return score;
             }
-            return new AnalysisScore(getName(), getIcon(), getScope(), getConfiguration(), getReport());
+            return new AnalysisScore(getName(), getIcon(), getScope(), getConfiguration(), getRetainedIssues());
         }
 
         @Override
         void read(final ToolParser factory, final ToolConfiguration tool, final FilteredLog log) {
+            retention = tool.getRetention();
+            maxIssues = tool.getMaxIssues();
+
             readReport(factory, tool, log);
         }
 
@@ -4,15 +4,20 @@ import org.apache.commons.lang3.StringUtils;
 
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.grading.QualityGateResult.OverallStatus;
+import edu.hm.hafner.util.Ensure;
 import edu.hm.hafner.util.FilteredLog;
 import edu.hm.hafner.util.SecureXmlParserFactory;
 import edu.hm.hafner.util.VisibleForTesting;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -54,6 +59,54 @@ public abstract class AutoGradingRunner {
         this(System.out);
     }
 
+    /**
+     * Returns the workspace that contains the reports to grade. The default implementation returns the current working
+     * directory.
+     *
+     * @return the workspace
+     */
+    protected Path getWorkspace() {
+        return Path.of(DEFAULT_WORKSPACE);
+    }
+
+    /**
+     * Returns the value of the specified environment variable. The default implementation reads the environment of
+     * the current process.
+     *
+     * @param name
+     *         the name of the environment variable
+     *
+     * @return the value of the environment variable, or {@code null} if the variable is not defined
+     */
+    @CheckForNull
+    protected String getEnvironmentVariable(final String name) {
+        return System.getenv(name);
+    }
+
+    /**
+     * Returns the maximum time to read the reports of all rubrics. If the reports have not been read in time, then
+     * reading is cancelled and the remaining tools are graded with empty results. The default implementation reads
+     * the number of seconds from the environment variable TIMEOUT.
+     *
+     * @param log
+     *         the logger
+     *
+     * @return the timeout, or an empty {@link Optional} if there is no time limit
+     */
+    protected Optional<Duration> getTimeout(final FilteredLog log) {
+        var timeout = getEnvironmentVariable("TIMEOUT");
+        if (StringUtils.isBlank(timeout)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Long.parseLong(timeout.trim())));
+        }
+        catch (NumberFormatException exception) {
+            log.logError("Ignoring invalid timeout in environment variable TIMEOUT: '%s'", timeout);
+            return Optional.empty();
+        }
+    }
+
     /**
      * Returns the name of the default configuration file to use when the environment variable CONFIG is not set.
      *
@@ -80,12 +133,48 @@ public abstract class AutoGradingRunner {
         var log = new FilteredLog(getDisplayName() + " Errors:");
         var logHandler = new LogHandler(outputStream, log);
 
+        start(log);
+
+        var configuration = getConfiguration(log);
+        return run(List.of(configuration), log, logHandler).get(0);
+    }
+
+    /**
+     * Runs the autograding for several rubrics, i.e., grading configurations. The reports are parsed only once, even if
+     * they are used by the tools of several rubrics. Each rubric is graded and published on its own: it produces its own
+     * {@link AggregatedScore} and {@link QualityGateResult} and uses its own log. So errors or failed quality gates of a
+     * rubric do not affect the other rubrics. If {@link #failOnQualityGate()} is enabled, then the run fails only after
+     * all rubrics have been graded and published.
+     *
+     * @param rubrics
+     *         the grading configurations to evaluate
+     *
+     * @return the grading scores, one for each rubric in the order of the specified rubrics
+     */
+    public List<AggregatedScore> run(final List<String> rubrics) {
+        Ensure.that(rubrics).isNotEmpty("At least one rubric is required");
+
+        var log = new FilteredLog(getDisplayName() + " Errors:");
+        var logHandler = new LogHandler(outputStream, log);
+
+        start(log);
+
+        log.logInfo("Grading %d rubrics", rubrics.size());
+        return run(rubrics, log, logHandler);
+    }
+
+    private void start(final FilteredLog log) {
         log.logInfo(SINGLE_LINE);
         log.logInfo(center("Start", log));
         log.logInfo(SINGLE_LINE);
+    }
 
-        var configuration = getConfiguration(log);
-        var score = new AggregatedScore(log);
+    private List<AggregatedScore> run(final List<String> rubrics, final FilteredLog log, final LogHandler logHandler) {
+        // each rubric has its own log, so the errors of a rubric do not affect the other rubrics
+        var logs = rubrics.size() == 1 ? List.of(log) : rubrics.stream()
+                .map(rubric -> new FilteredLog(getDisplayName() + " Errors:"))
+                .toList();
+        var scores = logs.stream().map(AggregatedScore::new).toList();
         logHandler.print();
 
         log.logInfo(DOUBLE_LINE);
@@ -102,28 +191,71 @@ public abstract class AutoGradingRunner {
 
         log.logInfo(DOUBLE_LINE);
 
-        try {
-            grade(score, configuration, log, logHandler);
+        var failures = new ArrayList<String>();
+        Optional<String> failure = Optional.empty();
+        try (var parserFacade = new FileSystemToolParser(getWorkspace(), modifiedFilesAndLines)) { // shared by all rubrics
+            String deltaPath = fetchDeltaReportsFromPreviousPipeline(log).map(Path::toString).orElse(DEFAULT_WORKSPACE);
+            var deadline = getTimeout(log).map(timeout -> Instant.now().plus(timeout));
+
+            for (int i = 0; i < rubrics.size(); i++) {
+                var rubricLog = logs.get(i);
+                var rubricLogHandler = rubricLog == log ? logHandler : new LogHandler(outputStream, rubricLog);
+                if (rubrics.size() > 1) {
+                    rubricLog.logInfo(SINGLE_LINE);
+                    rubricLog.logInfo(center("Rubric %d of %d".formatted(i + 1, rubrics.size()), rubricLog));
+                    rubricLog.logInfo(SINGLE_LINE);
+                }
+                var score = scores.get(i);
+                deadline.ifPresent(score::setDeadline);
+                grade(score, rubrics.get(i), parserFacade, deltaPath, rubricLog, rubricLogHandler)
+                        .ifPresent(failures::add);
+                rubricLogHandler.print();
+            }
+            if (failOnQualityGate()) {
+                failure = getFailure(failures, log);
+            }
         }
         catch (IllegalArgumentException | ParsingException | SecureXmlParserFactory.ParsingException exception) {
-            log.logInfo(DOUBLE_LINE);
-            log.logException(exception, "An error occurred while grading");
-            log.logInfo(DOUBLE_LINE);
-
-            publishError(score, log, exception);
+            handleGradingError(scores.get(0), log, exception); // the error occurred before grading a rubric
         }
         finally {
             end(log, logHandler);
         }
 
-        return score;
+        if (failure.isPresent()) {
+            throw new IllegalStateException(failure.get());
+        }
+        return scores;
+    }
+
+    /**
+     * Grades a single rubric. Errors during the grading of the rubric are published for this rubric only, so the
+     * remaining rubrics are still graded and published.
+     *
+     * @return the reason why the rubric failed, or an empty {@link Optional} if the rubric did not fail
+     */
+    private Optional<String> grade(final AggregatedScore score, final String configuration,
+            final ToolParser parserFacade, final String deltaPath, final FilteredLog log, final LogHandler logHandler) {
+        try {
+            return gradeAndPublish(score, configuration, parserFacade, deltaPath, log, logHandler);
+        }
+        catch (IllegalArgumentException | ParsingException | SecureXmlParserFactory.ParsingException exception) {
+            handleGradingError(score, log, exception);
+
+            return Optional.empty();
+        }
     }
 
-    private void grade(final AggregatedScore score, final String configuration, final FilteredLog log,
-            final LogHandler logHandler) {
-        var parserFacade = new FileSystemToolParser(modifiedFilesAndLines);
-        String deltaPath = fetchDeltaReportsFromPreviousPipeline(log).map(Path::toString).orElse(DEFAULT_WORKSPACE);
+    private void handleGradingError(final AggregatedScore score, final FilteredLog log, final RuntimeException exception) {
+        log.logInfo(DOUBLE_LINE);
+        log.logException(exception, "An error occurred while grading");
+        log.logInfo(DOUBLE_LINE);
+
+        publishError(score, log, exception);
+    }
 
+    private Optional<String> gradeAndPublish(final AggregatedScore score, final String configuration,
+            final ToolParser parserFacade, final String deltaPath, final FilteredLog log, final LogHandler logHandler) {
         score.gradeTests(parserFacade, TestConfiguration.from(configuration), deltaPath);
         logHandler.print();
 
@@ -167,8 +299,9 @@ public abstract class AutoGradingRunner {
         logHandler.print();
 
         if (failOnQualityGate()) {
-            handleFailedQualityGates(qualityGateResult, log);
+            return getFailure(qualityGateResult, log);
         }
+        return Optional.empty();
     }
 
     private void logGradingSummary(final FilteredLog log, final AggregatedScore score) {
@@ -191,7 +324,7 @@ public abstract class AutoGradingRunner {
     }
 
     private List<QualityGate> readQualityGatesFromEnvVariable(final FilteredLog log) {
-        String qualityGates = System.getenv("QUALITY_GATES");
+        String qualityGates = getEnvironmentVariable("QUALITY_GATES");
         if (StringUtils.isBlank(qualityGates)) {
             log.logInfo("Environment variable '%s' not found or empty", "QUALITY_GATES");
             return List.of();
@@ -202,20 +335,35 @@ public abstract class AutoGradingRunner {
         }
     }
 
-    private void handleFailedQualityGates(final QualityGateResult qualityGateResult, final FilteredLog log) {
+    private Optional<String> getFailure(final QualityGateResult qualityGateResult, final FilteredLog log) {
         if (qualityGateResult.getOverallStatus() != OverallStatus.SUCCESS) {
             log.logInfo(SINGLE_LINE);
             log.logInfo(QUALITY_GATES_FAILED);
 
-            throw new IllegalStateException(QUALITY_GATES_FAILED);
+            return Optional.of(QUALITY_GATES_FAILED);
+        }
+        return getFailure(List.of(), log);
+    }
+
+    /**
+     * Returns the reason why the whole run fails. All rubrics have been graded and published before, so the run fails
+     * only once, even if several rubrics failed.
+     */
+    private Optional<String> getFailure(final List<String> failures, final FilteredLog log) {
+        if (failures.contains(QUALITY_GATES_FAILED)) {
+            return Optional.of(QUALITY_GATES_FAILED);
+        }
+        if (!failures.isEmpty()) {
+            return Optional.of(failures.get(0));
         }
         if (log.hasErrors()) {
             log.logInfo(SINGLE_LINE);
             log.logInfo("Autograding finished with the following errors in the log, failing the action:");
             log.getErrorMessages().forEach(message -> log.logInfo("%s", message));
 
-            throw new IllegalStateException(LOG_CONTAINS_ERRORS);
+            return Optional.of(LOG_CONTAINS_ERRORS);
         }
+        return Optional.empty();
     }
 
     private void end(final FilteredLog log, final LogHandler logHandler) {
@@ -347,7 +495,7 @@ public abstract class AutoGradingRunner {
 
     @VisibleForTesting
     String getConfiguration(final FilteredLog log) {
-        var configuration = System.getenv("CONFIG");
+        var configuration = getEnvironmentVariable("CONFIG");
         if (StringUtils.isBlank(configuration)) {
             log.logInfo("No configuration provided (environment variable CONFIG not set), using default configuration");
 
@@ -398,7 +546,7 @@ public abstract class AutoGradingRunner {
      *         the logger
      *
      * @return an {@link Optional} containing the path to the delta reports if available, or an empty {@link Optional}
-     *         if no delta reports are available
+     *         if no delta reports are available. The path may be a folder or a zip archive that contains the reports.
      */
     protected abstract Optional<Path> fetchDeltaReportsFromPreviousPipeline(FilteredLog log);
 }
@@ -0,0 +1,339 @@
+package edu.hm.hafner.grading;
+
+import edu.hm.hafner.util.Ensure;
+import edu.hm.hafner.util.Generated;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+/**
+ * A {@link CommentBuilder} that publishes the comments in batches rather than one by one. Publishers that need an HTTP
+ * round trip for each request (e.g., the GitHub checks API that accepts up to 50 annotations per request) can use this
+ * builder to reduce the number of requests. The comments are collected in chunks of {@link #getBatchSize()} comments,
+ * each chunk is handed over to {@link #publishComments(List)} as soon as it is full. The last chunk might be smaller.
+ *
+ * <p>
+ * Optionally, the batches are published asynchronously: then a background thread publishes the batches while the next
+ * batches are still created. The batches are passed to the background thread using a bounded queue, so the creation of
+ * comments will block if the publisher cannot keep up. In both modes, the batches are published in the order of their
+ * creation, and {@link #createAnnotations(AggregatedScore)} returns only after all batches have been published.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public abstract class BatchCommentBuilder extends CommentBuilder {
+    /** The default number of comments in a batch. */
+    public static final int DEFAULT_BATCH_SIZE = 50;
+    /** The default number of batches that can be waiting for the asynchronous publisher. */
+    public static final int DEFAULT_QUEUE_CAPACITY = 4;
+
+    private List<Comment> batch = new ArrayList<>();
+    @CheckForNull
+    private BlockingQueue<List<Comment>> queue;
+
+    /**
+     * Creates a new {@link BatchCommentBuilder}. See {@link CommentBuilder#CommentBuilder(Map, String...)} for
+     * details.
+     *
+     * @param modifiedFilesAndLines
+     *         set of repository-relative file paths (e.g., from a PR diff) and lines to use as fallback for path
+     *         resolution and to filter comments to only modified lines
+     * @param prefixesToRemove
+     *         prefixes to remove from file paths before resolution
+     */
+    protected BatchCommentBuilder(final Map<String, Set<Integer>> modifiedFilesAndLines,
+            final String... prefixesToRemove) {
+        super(modifiedFilesAndLines, prefixesToRemove);
+    }
+
+    @Override
+    public void createAnnotations(final AggregatedScore score) {
+        Ensure.that(getBatchSize() > 0).isTrue("The batch size must be positive: %d", getBatchSize());
+
+        batch = new ArrayList<>();
+        if (isPublishingAsynchronous()) {
+            createAnnotationsAsynchronously(score);
+        }
+        else {
+            super.createAnnotations(score);
+            flush();
+        }
+    }
+
+    private void createAnnotationsAsynchronously(final AggregatedScore score) {
+        Ensure.that(getQueueCapacity() > 0).isTrue("The queue capacity must be positive: %d", getQueueCapacity());
+
+        var batches = new ArrayBlockingQueue<List<Comment>>(getQueueCapacity());
+        try (var executor = Executors.newSingleThreadExecutor()) {
+            var publisher = executor.submit(() -> publishQueuedBatches(batches));
+            queue = batches;
+            try {
+                super.createAnnotations(score);
+                flush();
+            }
+            finally {
+                queue = null;
+                markEndOfComments(batches);
+            }
+            publisher.get();
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("Publishing of comments has been interrupted", exception);
+        }
+        catch (ExecutionException exception) {
+            throw new IllegalStateException("Publishing of comments failed", exception.getCause());
+        }
+    }
+
+    /**
+     * Appends the empty batch that marks the end of the comments. The marker must be delivered even if the current
+     * thread is interrupted, otherwise the publisher would wait forever. Since the publisher drains the queue, this
+     * will not block forever.
+     */
+    private void markEndOfComments(final BlockingQueue<List<Comment>> batches) {
+        var interrupted = false;
+        while (!batches.offer(List.of())) {
+            try {
+                batches.put(List.of());
+                break;
+            }
+            catch (InterruptedException exception) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Publishes the queued batches until the empty batch is received. If publishing a batch fails, then the remaining
+     * batches are still taken from the queue (but not published anymore) so that the creation of comments does not
+     * block forever. This also holds for errors, e.g., an {@link OutOfMemoryError} or a {@link LinkageError} of the
+     * publisher. The failure is reported after the last batch.
+     */
+    @SuppressWarnings({"checkstyle:IllegalCatch", "PMD.AvoidCatchingThrowable"})
+    private Void publishQueuedBatches(final BlockingQueue<List<Comment>> batches) throws InterruptedException {
+        Throwable failure = null;
+        for (var comments = batches.take(); !comments.isEmpty(); comments = batches.take()) {
+            if (failure == null) {
+                try {
+                    publishComments(comments);
+                }
+                catch (Throwable exception) {
+                    failure = exception;
+                }
+            }
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        if (failure instanceof RuntimeException exception) {
+            throw exception;
+        }
+        if (failure != null) {
+            throw new IllegalStateException(failure);
+        }
+        return null;
+    }
+
+    private void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        var comments = List.copyOf(batch);
+        batch = new ArrayList<>();
+        if (queue == null) {
+            publishComments(comments);
+        }
+        else {
+            try {
+                queue.put(comments);
+            }
+            catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+
+                throw new IllegalStateException("Publishing of comments has been interrupted", exception);
+            }
+        }
+    }
+
+    /**
+     * Collects the comment in the current batch. Only comments that are part of the modified lines are collected, see
+     * {@link #isPartOfChangedFiles(String, int, int)}. The batch is published as soon as it contains
+     * {@link #getBatchSize()} comments.
+     */
+    @Override
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    protected final boolean createComment(final CommentType commentType, final String relativePath,
+            final int lineStart, final int lineEnd, final String message, final String title,
+            final int columnStart, final int columnEnd, final String details, final String markDownDetails) {
+        if (!isPartOfChangedFiles(relativePath, lineStart, lineEnd)) {
+            return false;
+        }
+
+        batch.add(new Comment(commentType, relativePath, lineStart, lineEnd, message, title,
+                columnStart, columnEnd, details, markDownDetails));
+        if (batch.size() >= getBatchSize()) {
+            flush();
+        }
+        return true;
+    }
+
+    /**
+     * Publishes a batch of comments. The batches are published in the order of their creation. If the comments are
+     * published asynchronously, then this method is called from a background thread.
+     *
+     * @param comments
+     *         the comments to publish, contains at least one and at most {@link #getBatchSize()} comments
+     */
+    protected abstract void publishComments(List<Comment> comments);
+
+    /**
+     * Returns the maximum number of comments in a batch.
+     *
+     * @return the maximum number of comments in a batch
+     */
+    protected int getBatchSize() {
+        return DEFAULT_BATCH_SIZE;
+    }
+
+    /**
+     * Returns whether the batches will be published asynchronously. By default, the batches are published
+     * synchronously.
+     *
+     * @return {@code true} if the batches will be published by a background thread, {@code false} if the batches will
+     *         be published by the thread that creates the comments
+     */
+    protected boolean isPublishingAsynchronous() {
+        return false;
+    }
+
+    /**
+     * Returns the maximum number of batches that can be waiting for the asynchronous publisher. If the queue is full,
+     * then the creation of comments blocks until the publisher has taken the next batch.
+     *
+     * @return the capacity of the queue
+     */
+    protected int getQueueCapacity() {
+        return DEFAULT_QUEUE_CAPACITY;
+    }
+
+    /**
+     * A comment for a warning, a missed line, a partially covered line, or a survived mutation. See
+     * {@link CommentBuilder#createComment} for details about the properties.
+     */
+    @SuppressWarnings("ClassCanBeRecord")
+    public static final class Comment {
+        private final CommentType commentType;
+        private final String relativePath;
+        private final int lineStart;
+        private final int lineEnd;
+        private final String message;
+        private final String title;
+        private final int columnStart;
+        private final int columnEnd;
+        private final String details;
+        private final String markDownDetails;
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        Comment(final CommentType commentType, final String relativePath, final int lineStart, final int lineEnd,
+                final String message, final String title, final int columnStart, final int columnEnd,
+                final String details, final String markDownDetails) {
+            this.commentType = commentType;
+            this.relativePath = relativePath;
+            this.lineStart = lineStart;
+            this.lineEnd = lineEnd;
+            this.message = message;
+            this.title = title;
+            this.columnStart = columnStart;
+            this.columnEnd = columnEnd;
+            this.details = details;
+            this.markDownDetails = markDownDetails;
+        }
+
+        public CommentType getCommentType() {
+            return commentType;
+        }
+
+        public String getRelativePath() {
+            return relativePath;
+        }
+
+        public int getLineStart() {
+            return lineStart;
+        }
+
+        public int getLineEnd() {
+            return lineEnd;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public int getColumnStart() {
+            return columnStart;
+        }
+
+        public int getColumnEnd() {
+            return columnEnd;
+        }
+
+        public String getDetails() {
+            return details;
+        }
+
+        public String getMarkDownDetails() {
+            return markDownDetails;
+        }
+
+        @Override
+        @Generated
+        public boolean equals(final Object o) {
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var comment = (Comment) o;
+            return lineStart == comment.lineStart
+                    && lineEnd == comment.lineEnd
+                    && columnStart == comment.columnStart
+                    && columnEnd == comment.columnEnd
+                    && commentType == comment.commentType
+                    && Objects.equals(relativePath, comment.relativePath)
+                    && Objects.equals(message, comment.message)
+                    && Objects.equals(title, comment.title)
+                    && Objects.equals(details, comment.details)
+                    && Objects.equals(markDownDetails, comment.markDownDetails);
+        }
+
+        @Override
+        @Generated
+        public int hashCode() {
+            return Objects.hash(commentType, relativePath, lineStart, lineEnd, message, title,
+                    columnStart, columnEnd, details, markDownDetails);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ENGLISH, "[%s] %s:%d-%d: %s (%s)",
+                    commentType, relativePath, lineStart, lineEnd, message, title);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package edu.hm.hafner.grading;
+
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.util.Ensure;
+import edu.hm.hafner.util.FilteredLog;
+import edu.hm.hafner.util.SecureXmlParserFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static edu.hm.hafner.grading.ScoreBuilder.*;
+
+/**
+ * Grades the submissions of many students with the same configuration in a single JVM. The configuration is parsed
+ * only once and shared by all submissions. The submissions are graded concurrently, the maximum number of submissions
+ * that are graded at the same time is limited. The report files of all submissions are parsed by a shared pool of
+ * workers that is limited in the same way, so a batch never uses more parser threads than the maximum concurrency.
+ * Each submission is graded in isolation: if the grading of a submission
+ * fails, then the error is stored in the result of this submission and the other submissions are not affected.
+ *
+ * @author Ullrich Hafner
+ */
+public final class BatchGrading {
+    private final List<TestConfiguration> testConfigurations;
+    private final List<CoverageConfiguration> coverageConfigurations;
+    private final List<AnalysisConfiguration> analysisConfigurations;
+    private final List<MetricConfiguration> metricConfigurations;
+    private final int maxConcurrency;
+
+    /**
+     * Creates a new batch grading for the specified configuration.
+     *
+     * @param configuration
+     *         the grading configuration in JSON format
+     * @param maxConcurrency
+     *         the maximum number of submissions that will be graded concurrently
+     */
+    public BatchGrading(final String configuration, final int maxConcurrency) {
+        Ensure.that(maxConcurrency > 0).isTrue("The maximum concurrency must be positive: %d", maxConcurrency);
+
+        this.testConfigurations = TestConfiguration.from(configuration);
+        this.coverageConfigurations = CoverageConfiguration.from(configuration);
+        this.analysisConfigurations = AnalysisConfiguration.from(configuration);
+        this.metricConfigurations = MetricConfiguration.from(configuration);
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Grades the submissions in the specified workspaces. The results are returned in the order of the workspaces.
+     *
+     * @param workspaces
+     *         the workspaces of the submissions
+     *
+     * @return the results of the submissions
+     */
+    public List<Submission> grade(final List<Path> workspaces) {
+        try (var workers = Executors.newWorkStealingPool(maxConcurrency);
+                var executor = Executors.newFixedThreadPool(maxConcurrency)) {
+            var tasks = new ArrayList<Callable<Submission>>();
+            workspaces.forEach(workspace -> tasks.add(() -> grade(workspace, workers)));
+
+            var submissions = new ArrayList<Submission>();
+            var futures = executor.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                submissions.add(getSubmission(workspaces.get(i), futures.get(i)));
+            }
+            return submissions;
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("Batch grading has been interrupted", exception);
+        }
+    }
+
+    private Submission getSubmission(final Path workspace, final Future<Submission> future)
+            throws InterruptedException {
+        try {
+            return future.get();
+        }
+        catch (ExecutionException exception) {
+            var log = new FilteredLog(createLogTitle(workspace));
+            log.logException(exception.getCause(), "An error occurred while grading");
+            return new Submission(workspace, new AggregatedScore(log), true);
+        }
+    }
+
+    /**
+     * Grades the submission in the specified workspace.
+     *
+     * @param workspace
+     *         the workspace of the submission
+     * @param workers
+     *         the workers that parse the report files of all submissions
+     *
+     * @return the result of the submission
+     */
+    private Submission grade(final Path workspace, final ExecutorService workers) {
+        var log = new FilteredLog(createLogTitle(workspace));
+        var score = new AggregatedScore(log);
+        try (var parser = new FileSystemToolParser(workspace, Map.of(), workers)) {
+
+            score.gradeTests(parser, testConfigurations, NO_DELTA_REPORTS);
+            score.gradeCoverage(parser, coverageConfigurations, NO_DELTA_REPORTS);
+            score.gradeAnalysis(parser, analysisConfigurations, NO_DELTA_REPORTS);
+            score.gradeMetrics(parser, metricConfigurations, NO_DELTA_REPORTS);
+
+            return new Submission(workspace, score, false);
+        }
+        catch (IllegalArgumentException | IllegalStateException | ParsingException
+               | SecureXmlParserFactory.ParsingException exception) {
+            log.logException(exception, "An error occurred while grading");
+
+            return new Submission(workspace, score, true);
+        }
+    }
+
+    private String createLogTitle(final Path workspace) {
+        return "Errors in " + workspace + ":";
+    }
+
+    /**
+     * The grading result of a single submission.
+     */
+    @SuppressWarnings("ClassCanBeRecord")
+    public static final class Submission {
+        private final Path workspace;
+        private final AggregatedScore score;
+        private final boolean failed;
+
+        Submission(final Path workspace, final AggregatedScore score, final boolean failed) {
+            this.workspace = workspace;
+            this.score = score;
+            this.failed = failed;
+        }
+
+        public Path getWorkspace() {
+            return workspace;
+        }
+
+        public AggregatedScore getScore() {
+            return score;
+        }
+
+        /**
+         * Returns whether the grading of this submission has been aborted due to an error. Then the score contains
+         * only the results that have been graded before the error occurred.
+         *
+         * @return {@code true} if the grading failed, {@code false} otherwise
+         */
+        public boolean hasFailed() {
+            return failed;
+        }
+
+        /**
+         * Returns whether the log of this submission contains errors.
+         *
+         * @return {@code true} if there are errors, {@code false} otherwise
+         */
+        public boolean hasErrors() {
+            return failed || !score.getErrorMessages().isEmpty();
+        }
+    }
+}
@@ -6,23 +6,28 @@ import org.apache.commons.lang3.Strings;
 import com.google.errorprone.annotations.FormatMethod;
 
 import edu.hm.hafner.analysis.Issue;
-import edu.hm.hafner.analysis.registry.ParserRegistry;
 import edu.hm.hafner.coverage.FileNode;
 import edu.hm.hafner.coverage.Metric;
 import edu.hm.hafner.coverage.Mutation;
+import edu.hm.hafner.util.Generated;
 import edu.hm.hafner.util.LineRange;
 import edu.hm.hafner.util.PathUtil;
 import edu.hm.hafner.util.VisibleForTesting;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Creates comments for static analysis warnings, for lines with missing coverage, and for lines with survived
@@ -53,6 +58,7 @@ public abstract class CommentBuilder {
     private final List<String> prefixesToRemove;
     private final Map<String, Set<Integer>> modifiedLines;
     private final CoveragePathMatcher pathMatcher;
+    private final Map<Set<String>, Map<String, String>> resolvedPaths = new HashMap<>();
 
     private FileSystemFacade fileSystemFacade = new FileSystemFacade();
 
@@ -88,13 +94,14 @@ public abstract class CommentBuilder {
      *         the score to create the comments for
      */
     public void createAnnotations(final AggregatedScore score) {
+        resolvedPaths.clear();
+        fileSystemFacade.refresh();
+
         var additionalAnalysisSourcePaths = extractAdditionalSourcePaths(score.getAnalysisScores());
         createAnnotationsForIssues(score, additionalAnalysisSourcePaths);
 
         var additionalSourcePaths = extractAdditionalSourcePaths(score.getCoverageScores());
-        createAnnotationsForMissedLines(score, additionalSourcePaths);
-        createAnnotationsForPartiallyCoveredLines(score, additionalSourcePaths);
-        createAnnotationsForSurvivedMutations(score, additionalSourcePaths);
+        createAnnotationsForCoverage(score, additionalSourcePaths);
     }
 
     /**
@@ -130,22 +137,11 @@ public abstract class CommentBuilder {
             int lineStart, int lineEnd, String message, String title, int columnStart, int columnEnd,
             String details, String markDownDetails);
 
-    private void createCoverageComment(final CommentType commentType, final String relativePath,
-            final int lineStart, final int lineEnd, final String message, final String title) {
-        createCoverageComment(commentType, relativePath, lineStart, lineEnd, message, title,
-                NO_COLUMN, NO_COLUMN,
-                NO_ADDITIONAL_DETAILS, NO_ADDITIONAL_DETAILS);
-    }
-
-    @SuppressWarnings({"checkstyle:ParameterNumber", "SameParameterValue"})
-    private void createCoverageComment(final CommentType commentType, final String relativePath,
-            final int lineStart, final int lineEnd,
-            final String message, final String title,
-            final int columnStart, final int columnEnd,
-            final String details, final String markDownDetails) {
+    private void createCoverageComment(final CoverageAnnotation annotation) {
         if (coverageComments < getMaxCoverageComments()) {
-            boolean created = createComment(commentType, relativePath, lineStart, lineEnd, message, title,
-                    columnStart, columnEnd, details, markDownDetails);
+            boolean created = createComment(annotation.commentType, annotation.relativePath,
+                    annotation.lineStart, annotation.lineEnd, annotation.message, annotation.title,
+                    NO_COLUMN, NO_COLUMN, annotation.details, annotation.details);
             if (created) {
                 coverageComments++;
             }
@@ -163,7 +159,8 @@ public abstract class CommentBuilder {
 
     private void createAnnotationsForIssues(final AggregatedScore score,
             final Set<String> sourcePaths) {
-        score.getIssues().forEach(issue -> createAnnotationForIssue(issue, sourcePaths));
+        var issues = isOnlyNewIssuesAnnotated() ? score.getNewIssues() : score.getIssues();
+        issues.forEach(issue -> createAnnotationForIssue(issue, sourcePaths));
     }
 
     private void createAnnotationForIssue(final Issue issue,
@@ -235,6 +232,17 @@ public abstract class CommentBuilder {
         return false;
     }
 
+    /**
+     * Returns whether only new issues will be annotated, i.e., issues that are not part of the reference results. By
+     * default, all issues will be annotated. If there are no reference results for a tool, then all issues of this
+     * tool will be annotated.
+     *
+     * @return {@code true} if only new issues will be annotated, {@code false} if all issues will be annotated
+     */
+    protected boolean isOnlyNewIssuesAnnotated() {
+        return false;
+    }
+
     /**
      * Returns the maximum number of coverage comments to create.
      *
@@ -245,9 +253,11 @@ public abstract class CommentBuilder {
     }
 
     private String getDescription(final Issue issue) {
-        var parserRegistry = new ParserRegistry();
-        if (!isWarningDescriptionHidden() && parserRegistry.contains(issue.getOrigin())) {
-            return parserRegistry.get(issue.getOrigin()).getDescription(issue);
+        if (!isWarningDescriptionHidden()) {
+            var descriptor = ParserDescriptors.find(issue.getOrigin());
+            if (descriptor.isPresent()) {
+                return descriptor.get().getDescription(issue);
+            }
         }
         return issue.getDescription();
     }
@@ -261,23 +271,50 @@ public abstract class CommentBuilder {
         return path;
     }
 
-    private void createAnnotationsForMissedLines(final AggregatedScore score, final Set<String> sourcePaths) {
-        score.getCoveredFiles(Metric.LINE).forEach(file -> createAnnotationsForMissedLines(file, sourcePaths));
-    }
+    /**
+     * Creates the annotations for missed lines, partially covered lines, and survived mutations in a single traversal
+     * of the coverage results. The file nodes of each coverage tool are visited only once, the repository path of each
+     * file is resolved only once. Identical annotations (e.g., the missed lines reported by a line coverage tool and a
+     * mutation coverage tool) are created only once.
+     */
+    private void createAnnotationsForCoverage(final AggregatedScore score, final Set<String> sourcePaths) {
+        var missedLines = new ArrayList<CoverageAnnotation>();
+        var partiallyCoveredLines = new ArrayList<CoverageAnnotation>();
+        var survivedMutations = new ArrayList<CoverageAnnotation>();
+
+        for (CoverageScore coverageScore : score.getCoverageScores()) {
+            for (CoverageScore subScore : coverageScore.getSubScores()) {
+                var metric = subScore.getMetric();
+                if (metric == Metric.LINE || metric == Metric.BRANCH || metric == Metric.MUTATION) {
+                    for (FileNode file : subScore.getReport().getAllFileNodes()) {
+                        var relativePath = createRelativeRepositoryPath(file.getRelativePath(), sourcePaths);
+                        switch (metric) {
+                            case LINE -> addMissedLines(missedLines, file, relativePath);
+                            case BRANCH -> addPartiallyCoveredLines(partiallyCoveredLines, file, relativePath);
+                            default -> {
+                                addSurvivedMutations(survivedMutations, file, relativePath);
+                                addMissedLines(survivedMutations, file, relativePath);
+                            }
+                        }
+                    }
+                }
+            }
+        }
 
-    private void createAnnotationsForMissedLines(final FileNode file, final Set<String> sourcePaths) {
-        file.getMissedLineRanges()
-                .forEach(range -> createAnnotationForMissedLineRange(file, range, sourcePaths));
+        var created = new HashSet<CoverageAnnotation>();
+        Stream.of(missedLines, partiallyCoveredLines, survivedMutations)
+                .flatMap(List::stream)
+                .filter(created::add)
+                .forEach(this::createCoverageComment);
     }
 
-    private void createAnnotationForMissedLineRange(final FileNode file, final LineRange range,
-            final Set<String> sourcePaths) {
-        var relativePath = createRelativeRepositoryPath(file.getRelativePath(), sourcePaths);
-
-        createCoverageComment(CommentType.NO_COVERAGE,
-                relativePath, range.getStart(),
-                range.getEnd(), getMissedLinesDescription(range),
-                getMissedLinesMessage(range));
+    private void addMissedLines(final List<CoverageAnnotation> annotations, final FileNode file,
+            final String relativePath) {
+        for (LineRange range : file.getMissedLineRanges()) {
+            annotations.add(new CoverageAnnotation(CommentType.NO_COVERAGE, relativePath,
+                    range.getStart(), range.getEnd(),
+                    getMissedLinesDescription(range), getMissedLinesMessage(range), NO_ADDITIONAL_DETAILS));
+        }
     }
 
     private String getMissedLinesMessage(final LineRange range) {
@@ -294,25 +331,14 @@ public abstract class CommentBuilder {
         return format("Lines %d-%d are not covered by tests", range.getStart(), range.getEnd());
     }
 
-    private void createAnnotationsForPartiallyCoveredLines(final AggregatedScore score,
-            final Set<String> sourcePaths) {
-        score.getCoveredFiles(Metric.BRANCH)
-                .forEach(file -> createAnnotationsForMissedBranches(file, sourcePaths));
-    }
-
-    private void createAnnotationsForMissedBranches(final FileNode file,
-            final Set<String> sourcePaths) {
-        file.getPartiallyCoveredLines().entrySet()
-                .forEach(entry -> createAnnotationForMissedBranches(file, entry, sourcePaths));
-    }
-
-    private void createAnnotationForMissedBranches(final FileNode file,
-            final Entry<Integer, Integer> branchCoverage,
-            final Set<String> sourcePaths) {
-        createCoverageComment(CommentType.PARTIAL_COVERAGE,
-                createRelativeRepositoryPath(file.getRelativePath(), sourcePaths), branchCoverage.getKey(),
-                branchCoverage.getKey(), createBranchMessage(branchCoverage.getKey(), branchCoverage.getValue()),
-                "Partially covered line");
+    private void addPartiallyCoveredLines(final List<CoverageAnnotation> annotations, final FileNode file,
+            final String relativePath) {
+        for (Entry<Integer, Integer> branchCoverage : file.getPartiallyCoveredLines().entrySet()) {
+            annotations.add(new CoverageAnnotation(CommentType.PARTIAL_COVERAGE, relativePath,
+                    branchCoverage.getKey(), branchCoverage.getKey(),
+                    createBranchMessage(branchCoverage.getKey(), branchCoverage.getValue()),
+                    "Partially covered line", NO_ADDITIONAL_DETAILS));
+        }
     }
 
     private String createBranchMessage(final int line, final int missed) {
@@ -322,7 +348,17 @@ public abstract class CommentBuilder {
         return format("Line %d is only partially covered, %d branches are missing", line, missed);
     }
 
+    /**
+     * Resolves the path of the specified file in the repository. Since the same file is typically referenced by several
+     * issues and coverage tools, the resolved paths are memorized for the current run: each file name is resolved only
+     * once for the same set of source paths.
+     */
     private String createRelativeRepositoryPath(final String fileName, final Set<String> sourcePaths) {
+        return resolvedPaths.computeIfAbsent(sourcePaths, paths -> new HashMap<>())
+                .computeIfAbsent(fileName, name -> resolveRelativeRepositoryPath(name, sourcePaths));
+    }
+
+    private String resolveRelativeRepositoryPath(final String fileName, final Set<String> sourcePaths) {
         var cleaned = cleanPath(fileName);
         if (exists(cleaned)) {
             return cleaned;
@@ -349,29 +385,14 @@ public abstract class CommentBuilder {
         return fileSystemFacade.exists(fileName);
     }
 
-    private void createAnnotationsForSurvivedMutations(final AggregatedScore score,
-            final Set<String> sourcePaths) {
-        score.getCoveredFiles(Metric.MUTATION)
-                .forEach(file -> createAnnotationsForSurvivedMutations(file, sourcePaths));
-    }
-
-    private void createAnnotationsForSurvivedMutations(final FileNode file,
-            final Set<String> sourcePaths) {
-        file.getSurvivedMutationsPerLine().entrySet()
-                .forEach(entry -> createAnnotationForSurvivedMutation(file, entry, sourcePaths));
-        createAnnotationsForMissedLines(file, sourcePaths);
-    }
-
-    private void createAnnotationForSurvivedMutation(final FileNode file,
-            final Entry<Integer, List<Mutation>> mutationsPerLine,
-            final Set<String> sourcePaths) {
-        var mutationDetails = createMutationDetails(mutationsPerLine.getValue());
-        createCoverageComment(CommentType.MUTATION_SURVIVED,
-                createRelativeRepositoryPath(file.getRelativePath(), sourcePaths), mutationsPerLine.getKey(),
-                mutationsPerLine.getKey(),
-                createMutationMessage(mutationsPerLine.getKey(), mutationsPerLine.getValue()),
-                "Mutation survived", NO_COLUMN, NO_COLUMN,
-                mutationDetails, mutationDetails);
+    private void addSurvivedMutations(final List<CoverageAnnotation> annotations, final FileNode file,
+            final String relativePath) {
+        for (Entry<Integer, List<Mutation>> mutationsPerLine : file.getSurvivedMutationsPerLine().entrySet()) {
+            annotations.add(new CoverageAnnotation(CommentType.MUTATION_SURVIVED, relativePath,
+                    mutationsPerLine.getKey(), mutationsPerLine.getKey(),
+                    createMutationMessage(mutationsPerLine.getKey(), mutationsPerLine.getValue()),
+                    "Mutation survived", createMutationDetails(mutationsPerLine.getValue())));
+        }
     }
 
     private String createMutationMessage(final int line, final List<Mutation> survived) {
@@ -419,9 +440,79 @@ public abstract class CommentBuilder {
         return String.format(Locale.ENGLISH, format, args);
     }
 
+    /**
+     * An annotation for a line range of a file with missing coverage or survived mutations. Two annotations are
+     * identical if they have the same type, file, lines, and message.
+     */
+    private static final class CoverageAnnotation {
+        private final CommentType commentType;
+        private final String relativePath;
+        private final int lineStart;
+        private final int lineEnd;
+        private final String message;
+        private final String title;
+        private final String details;
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        CoverageAnnotation(final CommentType commentType, final String relativePath, final int lineStart,
+                final int lineEnd, final String message, final String title, final String details) {
+            this.commentType = commentType;
+            this.relativePath = relativePath;
+            this.lineStart = lineStart;
+            this.lineEnd = lineEnd;
+            this.message = message;
+            this.title = title;
+            this.details = details;
+        }
+
+        @Override
+        @Generated
+        public boolean equals(final Object o) {
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var that = (CoverageAnnotation) o;
+            return lineStart == that.lineStart
+                    && lineEnd == that.lineEnd
+                    && commentType == that.commentType
+                    && relativePath.equals(that.relativePath)
+                    && message.equals(that.message);
+        }
+
+        @Override
+        @Generated
+        public int hashCode() {
+            return Objects.hash(commentType, relativePath, lineStart, lineEnd, message);
+        }
+    }
+
+    /**
+     * Checks whether files exist in the workspace. The results are memorized for the current run, so each file is
+     * checked in the file system only once, even if it is referenced by several tools or source paths. Relative paths
+     * are resolved against the workspace.
+     */
     static class FileSystemFacade {
+        private final Path workspace;
+        private final Map<Path, Boolean> existingFiles = new HashMap<>();
+
+        FileSystemFacade() {
+            this(Path.of(""));
+        }
+
+        @VisibleForTesting
+        FileSystemFacade(final Path workspace) {
+            this.workspace = workspace.toAbsolutePath().normalize();
+        }
+
+        /**
+         * Discards the memorized results so that the next existence checks query the file system again.
+         */
+        void refresh() {
+            existingFiles.clear();
+        }
+
         boolean exists(final String fileName) {
-            return Files.exists(Path.of(fileName));
+            return existingFiles.computeIfAbsent(workspace.resolve(Path.of(fileName)).normalize(), Files::exists);
         }
     }
 }
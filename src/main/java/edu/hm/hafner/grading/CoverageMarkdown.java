@@ -17,6 +17,7 @@ abstract class CoverageMarkdown extends ScoreMarkdown<CoverageScore, CoverageCon
     private static final double SUNNY_PERCENTAGE = 90.0;
     private static final double SMALL_CLOUD_PERCENTAGE = 80.0;
     private static final double PARTLY_CLOUDED_PERCENTAGE = 70.0;
+    private static final int MAX_REGRESSIONS = 10;
 
     private final String coveredText;
 
@@ -59,7 +60,7 @@ abstract class CoverageMarkdown extends ScoreMarkdown<CoverageScore, CoverageCon
     }
 
     @Override
-    String createSpecificDetails(final List<CoverageScore> scores) {
+    String createSpecificDetails(final List<CoverageScore> scores, final int maxSize) {
         var details = new TruncatedStringBuilder();
         for (CoverageScore score : scores) {
             details.addText(getTitle(score, 2))
@@ -90,9 +91,29 @@ abstract class CoverageMarkdown extends ScoreMarkdown<CoverageScore, CoverageCon
                         .addNewline();
             }
 
+            addRegressions(details, "Packages", score.getPackageRegressions());
+            addRegressions(details, "Files", score.getFileRegressions());
+
             details.addNewline();
         }
-        return details.build().buildByChars(MARKDOWN_MAX_SIZE);
+        return details.build().buildByChars(maxSize);
+    }
+
+    private void addRegressions(final TruncatedStringBuilder details, final String title,
+            final List<CoverageRegression> regressions) {
+        if (regressions.isEmpty()) {
+            return;
+        }
+        details.addNewline()
+                .addText(format("%s with coverage regressions:", title))
+                .addNewline();
+        regressions.stream().limit(MAX_REGRESSIONS).forEach(regression -> details
+                .addText(format("- `%s`: %s %s", regression.getName(), round(regression.getCoveredPercentage()),
+                        delta(regression.getCoveredPercentageDelta(), true)))
+                .addNewline());
+        if (regressions.size() > MAX_REGRESSIONS) {
+            details.addText(format("- and %d more", regressions.size() - MAX_REGRESSIONS)).addNewline();
+        }
     }
 
     private String createStatus(final CoverageScore score) {
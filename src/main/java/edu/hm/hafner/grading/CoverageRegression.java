@@ -0,0 +1,93 @@
+package edu.hm.hafner.grading;
+
+import edu.hm.hafner.util.Generated;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A file or package that lost coverage with respect to the reference build.
+ *
+ * @author Ullrich Hafner
+ */
+public final class CoverageRegression implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** Orders the regressions by the lost coverage, the largest loss first. */
+    static final Comparator<CoverageRegression> LARGEST_LOSS_FIRST
+            = Comparator.comparingDouble(CoverageRegression::getCoveredPercentageDelta)
+            .thenComparing(CoverageRegression::getName);
+
+    private final String name;
+    private final double coveredPercentage;
+    private final double referencePercentage;
+    private final int missedItemsDelta;
+
+    CoverageRegression(final String name, final double coveredPercentage, final double referencePercentage,
+            final int missedItemsDelta) {
+        this.name = name;
+        this.coveredPercentage = coveredPercentage;
+        this.referencePercentage = referencePercentage;
+        this.missedItemsDelta = missedItemsDelta;
+    }
+
+    /**
+     * Returns the name of the file or package, for files this is the relative path of the file.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    public double getCoveredPercentage() {
+        return coveredPercentage;
+    }
+
+    public double getReferencePercentage() {
+        return referencePercentage;
+    }
+
+    /**
+     * Returns the coverage that has been lost, i.e., the difference between the current and the reference covered
+     * percentage. Since this is a regression, the value is always negative.
+     *
+     * @return the lost coverage in percent
+     */
+    public double getCoveredPercentageDelta() {
+        return coveredPercentage - referencePercentage;
+    }
+
+    public int getMissedItemsDelta() {
+        return missedItemsDelta;
+    }
+
+    @Override
+    @Generated
+    public boolean equals(final Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        var that = (CoverageRegression) o;
+        return Double.compare(coveredPercentage, that.coveredPercentage) == 0
+                && Double.compare(referencePercentage, that.referencePercentage) == 0
+                && missedItemsDelta == that.missedItemsDelta
+                && Objects.equals(name, that.name);
+    }
+
+    @Override
+    @Generated
+    public int hashCode() {
+        return Objects.hash(name, coveredPercentage, referencePercentage, missedItemsDelta);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ENGLISH, "%s: %.2f%% (%+.2f%%)", name, coveredPercentage,
+                getCoveredPercentageDelta());
+    }
+}
@@ -0,0 +1,169 @@
+package edu.hm.hafner.grading;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.coverage.Coverage;
+import edu.hm.hafner.coverage.FileNode;
+import edu.hm.hafner.coverage.Metric;
+import edu.hm.hafner.coverage.Node;
+import edu.hm.hafner.coverage.Percentage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Finds the files and packages that lost coverage with respect to a reference build. The files of the current and the
+ * reference coverage tree are joined on their relative paths: the reference files are indexed in a hash map in a
+ * single pass, then each current file is looked up in this index. The packages are derived from the directories of the
+ * files and aggregated in the same passes. So the comparison requires linear time in the number of files.
+ *
+ * @author Ullrich Hafner
+ */
+final class CoverageRegressions {
+    /** No regressions, used if there is no reference. */
+    static final CoverageRegressions EMPTY = new CoverageRegressions(List.of(), List.of());
+
+    private static final String NO_PACKAGE = "-";
+
+    /**
+     * Finds the files and packages of the current coverage tree that lost coverage for the specified metric.
+     *
+     * @param current
+     *         the coverage tree of the current build
+     * @param reference
+     *         the coverage tree of the reference build
+     * @param metric
+     *         the coverage metric to compare
+     *
+     * @return the regressions
+     */
+    static CoverageRegressions compute(final Node current, final Node reference, final Metric metric) {
+        var referenceFiles = reference.getAllFileNodes();
+        var referenceIndex = new HashMap<String, Counter>((int) (referenceFiles.size() / 0.75f) + 1);
+        var referencePackages = new HashMap<String, Counter>();
+        for (FileNode file : referenceFiles) {
+            var counter = Counter.of(file, metric);
+            if (counter.isSet()) {
+                referenceIndex.put(file.getRelativePath(), counter);
+                referencePackages.computeIfAbsent(getPackage(file), key -> new Counter()).add(counter);
+            }
+        }
+
+        var files = new ArrayList<CoverageRegression>();
+        var currentPackages = new HashMap<String, Counter>();
+        for (FileNode file : current.getAllFileNodes()) {
+            var counter = Counter.of(file, metric);
+            if (counter.isSet()) {
+                currentPackages.computeIfAbsent(getPackage(file), key -> new Counter()).add(counter);
+                var previous = referenceIndex.get(file.getRelativePath());
+                if (previous != null) {
+                    addIfRegression(files, file.getRelativePath(), counter, previous);
+                }
+            }
+        }
+
+        var packages = new ArrayList<CoverageRegression>();
+        currentPackages.forEach((name, counter) -> {
+            var previous = referencePackages.get(name);
+            if (previous != null) {
+                addIfRegression(packages, name, counter, previous);
+            }
+        });
+
+        return new CoverageRegressions(files, packages);
+    }
+
+    /**
+     * Merges the specified regressions into a single instance.
+     *
+     * @param regressions
+     *         the regressions to merge
+     *
+     * @return the merged regressions
+     */
+    static CoverageRegressions merge(final List<CoverageRegressions> regressions) {
+        var files = new ArrayList<CoverageRegression>();
+        var packages = new ArrayList<CoverageRegression>();
+        for (CoverageRegressions regression : regressions) {
+            files.addAll(regression.getFiles());
+            packages.addAll(regression.getPackages());
+        }
+        return new CoverageRegressions(files, packages);
+    }
+
+    private static void addIfRegression(final List<CoverageRegression> regressions, final String name,
+            final Counter current, final Counter reference) {
+        var coveredPercentage = current.getCoveredPercentage();
+        var referencePercentage = reference.getCoveredPercentage();
+        if (coveredPercentage < referencePercentage) {
+            regressions.add(new CoverageRegression(name, coveredPercentage, referencePercentage,
+                    current.missed - reference.missed));
+        }
+    }
+
+    private static String getPackage(final FileNode file) {
+        var path = file.getRelativePath();
+        if (path.contains("/")) {
+            return StringUtils.substringBeforeLast(path, "/");
+        }
+        return NO_PACKAGE;
+    }
+
+    private final List<CoverageRegression> files;
+    private final List<CoverageRegression> packages;
+
+    private CoverageRegressions(final List<CoverageRegression> files, final List<CoverageRegression> packages) {
+        this.files = files.stream().sorted(CoverageRegression.LARGEST_LOSS_FIRST).toList();
+        this.packages = packages.stream().sorted(CoverageRegression.LARGEST_LOSS_FIRST).toList();
+    }
+
+    /**
+     * Returns the files that lost coverage, the largest loss first.
+     *
+     * @return the files that lost coverage
+     */
+    List<CoverageRegression> getFiles() {
+        return files;
+    }
+
+    /**
+     * Returns the packages that lost coverage, the largest loss first.
+     *
+     * @return the packages that lost coverage
+     */
+    List<CoverageRegression> getPackages() {
+        return packages;
+    }
+
+    /**
+     * Counts the covered and missed items of a file or package.
+     */
+    private static final class Counter {
+        private int covered;
+        private int missed;
+
+        static Counter of(final FileNode file, final Metric metric) {
+            var counter = new Counter();
+            var value = file.getValue(metric);
+            if (value.isPresent() && value.get() instanceof Coverage coverage && coverage.isSet()) {
+                counter.covered = coverage.getCovered();
+                counter.missed = coverage.getMissed();
+            }
+            return counter;
+        }
+
+        boolean isSet() {
+            return covered + missed > 0;
+        }
+
+        void add(final Counter other) {
+            covered += other.covered;
+            missed += other.missed;
+        }
+
+        double getCoveredPercentage() {
+            return Percentage.valueOf(covered, covered + missed).toRounded();
+        }
+    }
+}
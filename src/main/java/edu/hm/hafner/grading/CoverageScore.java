@@ -42,6 +42,7 @@ public final class CoverageScore extends Score<CoverageScore, CoverageConfigurat
     private final Metric metric;
 
     private transient Node report; // do not persist the coverage tree
+    private transient CoverageRegressions regressions; // do not persist the files
 
     private CoverageScore(final String name, final String icon, final Scope scope,
             final CoverageConfiguration configuration, final List<CoverageScore> scores) {
@@ -77,6 +78,7 @@ public final class CoverageScore extends Score<CoverageScore, CoverageConfigurat
         }
 
         this.report = new ContainerNode(name);
+        this.regressions = CoverageRegressions.merge(scores.stream().map(CoverageScore::getRegressions).toList());
 
         scores.stream().map(CoverageScore::getReport).forEach(report::addChild);
     }
@@ -95,6 +97,7 @@ public final class CoverageScore extends Score<CoverageScore, CoverageConfigurat
 
         this.report = report;
         this.metric = metric;
+        this.regressions = CoverageRegressions.EMPTY;
 
         var value = report.getValue(metric);
         if (value.isPresent() && value.get() instanceof Coverage coverageValue && coverageValue.isSet()) {
@@ -127,6 +130,7 @@ public final class CoverageScore extends Score<CoverageScore, CoverageConfigurat
             this.coveredPercentageDelta = 0;
             this.missedItemsDelta = 0;
         }
+        this.regressions = CoverageRegressions.compute(report, deltaReport, metric);
     }
 
     /**
@@ -147,7 +151,7 @@ public final class CoverageScore extends Score<CoverageScore, CoverageConfigurat
     }
 
     /**
-     * Restore an empty report after deserialization.
+     * Restore an empty report after deserialization and compute the derived values if they have not been stored.
      *
      * @return this
      */
@@ -155,10 +159,38 @@ public final class CoverageScore extends Score<CoverageScore, CoverageConfigurat
     @CanIgnoreReturnValue
     private Object readResolve() {
         report = new ModuleNode("empty");
+        regressions = CoverageRegressions.EMPTY;
+
+        freezeIfRequired();
 
         return this;
     }
 
+    /**
+     * Returns the files that lost coverage with respect to the reference build, the largest loss first.
+     *
+     * @return the files that lost coverage, or an empty list if there is no reference build
+     */
+    @JsonIgnore
+    public List<CoverageRegression> getFileRegressions() {
+        return getRegressions().getFiles();
+    }
+
+    /**
+     * Returns the packages that lost coverage with respect to the reference build, the largest loss first. The
+     * packages are derived from the directories of the files.
+     *
+     * @return the packages that lost coverage, or an empty list if there is no reference build
+     */
+    @JsonIgnore
+    public List<CoverageRegression> getPackageRegressions() {
+        return getRegressions().getPackages();
+    }
+
+    private CoverageRegressions getRegressions() {
+        return Objects.requireNonNullElse(regressions, CoverageRegressions.EMPTY);
+    }
+
     public Metric getMetric() {
         return metric;
     }
@@ -173,7 +205,7 @@ public final class CoverageScore extends Score<CoverageScore, CoverageConfigurat
     }
 
     @Override
-    public int getImpact() {
+    protected int computeImpact() {
         var configuration = getConfiguration();
 
         int change = 0;
@@ -257,13 +289,17 @@ public final class CoverageScore extends Score<CoverageScore, CoverageConfigurat
             super(deltaReportsPath);
         }
 
+        CoverageScoreBuilder(final ReferenceResults referenceResults) {
+            super(referenceResults);
+        }
+
         @Override
-        CoverageScore aggregate(final List<CoverageScore> scores) {
+        CoverageScore createAggregation(final List<CoverageScore> scores) {
             return new CoverageScore(getTopLevelName(), getIcon(), getScope(), getConfiguration(), scores);
         }
 
         @Override
-        CoverageScore build() {
+        CoverageScore createScore() {
             if (hasDelta()) {
                 return new CoverageScore(getName(), getIcon(), getScope(), getConfiguration(), getNode(), getDeltaNode(), getMetric());
             }
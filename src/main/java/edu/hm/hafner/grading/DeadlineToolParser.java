@@ -0,0 +1,156 @@
+package edu.hm.hafner.grading;
+
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.coverage.Node;
+import edu.hm.hafner.util.FilteredLog;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ToolParser} that reads the reports of a tool within a deadline. The reports are read in a separate thread.
+ * If the reports have not been read until the deadline, then reading is cancelled: the reading thread is interrupted
+ * (which in turn stops the parsing workers, see {@link FileSystemToolParser}), an error is logged, and empty results
+ * are returned. The tool is marked as timed out, see {@link #isTimedOut(ToolParser)}, so its score achieves no points
+ * rather than being graded on the empty results. The remaining tools can still be graded in time.
+ *
+ * @author Ullrich Hafner
+ */
+final class DeadlineToolParser implements ToolParser {
+    /**
+     * Creates a parser that reads the reports of the specified tool within the deadline of the tool and the overall
+     * deadline.
+     *
+     * @param parser
+     *         the parser that actually reads the reports
+     * @param tool
+     *         the tool to read the reports for
+     * @param overallDeadline
+     *         the deadline of the whole grading, or {@code null} if there is no such deadline
+     *
+     * @return a parser that observes the deadlines, or the specified parser if there is no deadline at all
+     */
+    static ToolParser create(final ToolParser parser, final ToolConfiguration tool,
+            @CheckForNull final Instant overallDeadline) {
+        var deadline = overallDeadline;
+        if (tool.getTimeout() > 0) {
+            var toolDeadline = Instant.now().plusSeconds(tool.getTimeout());
+            if (deadline == null || toolDeadline.isBefore(deadline)) {
+                deadline = toolDeadline;
+            }
+        }
+        if (deadline == null) {
+            return parser;
+        }
+        return new DeadlineToolParser(parser, deadline);
+    }
+
+    /**
+     * Returns the parser that actually reads the reports.
+     *
+     * @param parser
+     *         a parser that might observe a deadline
+     *
+     * @return the parser that actually reads the reports
+     */
+    static ToolParser unwrap(final ToolParser parser) {
+        if (parser instanceof DeadlineToolParser deadlineToolParser) {
+            return deadlineToolParser.parser;
+        }
+        return parser;
+    }
+
+    /**
+     * Returns whether reading the reports with the specified parser has timed out.
+     *
+     * @param parser
+     *         a parser that might observe a deadline
+     *
+     * @return {@code true} if the parser observes a deadline and the deadline has been exceeded while reading
+     *         reports, {@code false} otherwise
+     */
+    static boolean isTimedOut(final ToolParser parser) {
+        return parser instanceof DeadlineToolParser deadlineToolParser && deadlineToolParser.timedOut;
+    }
+
+    private final ToolParser parser;
+    private final Instant deadline;
+    private boolean timedOut;
+
+    private DeadlineToolParser(final ToolParser parser, final Instant deadline) {
+        this.parser = parser;
+        this.deadline = deadline;
+    }
+
+    @Override
+    public Report readReport(final ToolConfiguration tool, final String directory, final String excluded,
+            final FilteredLog log) {
+        return read(tool, log, buffer -> parser.readReport(tool, directory, excluded, buffer),
+                () -> new Report(tool.getId(), tool.getDisplayName()));
+    }
+
+    @Override
+    public RetainedIssues readRetainedIssues(final ToolConfiguration tool, final String directory,
+            final String excluded, final FilteredLog log) {
+        return read(tool, log, buffer -> parser.readRetainedIssues(tool, directory, excluded, buffer),
+                () -> new RetainedIssues(new Report(tool.getId(), tool.getDisplayName()), IssueRetention.ALL, 0));
+    }
+
+    @Override
+    public Node readNode(final ToolConfiguration configuration, final String directory, final String excluded,
+            final FilteredLog log) {
+        return read(configuration, log, buffer -> parser.readNode(configuration, directory, excluded, buffer),
+                () -> FileSystemToolParser.createEmptyContainer(configuration));
+    }
+
+    private <T> T read(final ToolConfiguration tool, final FilteredLog log, final Function<FilteredLog, T> reader,
+            final Supplier<T> emptyResult) {
+        var remaining = Duration.between(Instant.now(), deadline);
+        if (remaining.isNegative() || remaining.isZero()) {
+            log.logError("Skipping %s: the deadline for grading has been exceeded", tool.getDisplayName());
+            timedOut = true;
+            return emptyResult.get();
+        }
+
+        var buffer = new LogBuffer();
+        var executor = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "Autograding " + tool.getDisplayName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            var result = executor.submit(() -> reader.apply(buffer.getLog())).get(remaining.toMillis(), TimeUnit.MILLISECONDS);
+            buffer.replay(log);
+            return result;
+        }
+        catch (TimeoutException exception) {
+            log.logError("Cancelled reading the reports of %s after %d ms: the deadline for grading has been exceeded",
+                    tool.getDisplayName(), remaining.toMillis());
+            timedOut = true;
+            return emptyResult.get();
+        }
+        catch (ExecutionException exception) {
+            buffer.replay(log);
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(exception.getCause());
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            log.logError("Reading the reports of %s has been interrupted", tool.getDisplayName());
+            timedOut = true;
+            return emptyResult.get();
+        }
+        finally {
+            executor.shutdownNow(); // interrupts the reader if it is still running
+        }
+    }
+}
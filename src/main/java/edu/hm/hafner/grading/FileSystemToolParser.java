@@ -2,11 +2,10 @@ package edu.hm.hafner.grading;
 
 import org.apache.commons.lang3.StringUtils;
 
-import edu.hm.hafner.analysis.FileReaderFactory;
 import edu.hm.hafner.analysis.IssuesInModifiedCodeMarker;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.Report;
-import edu.hm.hafner.analysis.registry.ParserRegistry;
+import edu.hm.hafner.analysis.registry.ParserDescriptor;
 import edu.hm.hafner.coverage.ContainerNode;
 import edu.hm.hafner.coverage.CoverageParser.ProcessingMode;
 import edu.hm.hafner.coverage.FileNode;
@@ -19,22 +18,42 @@ import edu.hm.hafner.util.PathUtil;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static edu.hm.hafner.grading.ScoreBuilder.*;
 
 /**
- * Reads analysis or coverage reports of a specific type from the file system into a corresponding Java model.
+ * Reads analysis or coverage reports of a specific type from the file system into a corresponding Java model. The
+ * parser keeps the archives that contain reports open until it is closed.
  *
  * @author Ullrich Hafner
  * @author Jannik Ohme
  */
-final class FileSystemToolParser implements ToolParser {
-    private static final ReportFinder REPORT_FINDER = new ReportFinder();
+final class FileSystemToolParser implements ToolParser, AutoCloseable {
     private static final PathUtil PATH_UTIL = new PathUtil();
+    private static final Path DEFAULT_WORKSPACE = Path.of(NO_DELTA_REPORTS);
+    private static final int PARSER_THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int PARSER_BATCH_SIZE = 2 * PARSER_THREADS;
+    /** Parses the report files of all parsers that have no workers of their own. */
+    private static final ExecutorService SHARED_WORKERS = Executors.newWorkStealingPool(PARSER_THREADS);
 
+    private final Path workspace;
     private final Map<String, Set<Integer>> modifiedLines;
+    private final ParseCache parseCache = new ParseCache();
+    private final ReportFinder reportFinder = new ReportFinder();
+    private final ExecutorService workers;
 
     /**
      * Creates a new parser without information about modified lines in files.
@@ -50,96 +69,296 @@ final class FileSystemToolParser implements ToolParser {
      *         the map of changed file paths to their changed lines
      */
     FileSystemToolParser(final Map<String, Set<Integer>> modifiedLines) {
+        this(DEFAULT_WORKSPACE, modifiedLines);
+    }
+
+    /**
+     * Creates a new parser that reads the reports of the specified workspace. The directories that are passed to the
+     * read methods are resolved against this workspace.
+     *
+     * @param workspace
+     *         the workspace that contains the reports
+     * @param modifiedLines
+     *         the map of changed file paths to their changed lines
+     */
+    FileSystemToolParser(final Path workspace, final Map<String, Set<Integer>> modifiedLines) {
+        this(workspace, modifiedLines, SHARED_WORKERS);
+    }
+
+    /**
+     * Creates a new parser that reads the reports of the specified workspace with the specified workers. The workers
+     * are not owned by the parser, they are not shut down when the parser is closed.
+     *
+     * @param workspace
+     *         the workspace that contains the reports
+     * @param modifiedLines
+     *         the map of changed file paths to their changed lines
+     * @param workers
+     *         the workers that parse the report files
+     */
+    FileSystemToolParser(final Path workspace, final Map<String, Set<Integer>> modifiedLines,
+            final ExecutorService workers) {
+        this.workspace = workspace;
         this.modifiedLines = modifiedLines;
+        this.workers = workers;
+    }
+
+    /**
+     * Closes the archives that have been opened while searching for reports.
+     */
+    @Override
+    public void close() {
+        reportFinder.close();
     }
 
     @Override
     public Report readReport(final ToolConfiguration tool, final String baseDirectory, final String excludedDirectory,
             final FilteredLog log) {
-        var parser = new ParserRegistry().get(tool.getId());
+        return read(tool, baseDirectory, excludedDirectory, log, IssueRetention.ALL, 0).getReport();
+    }
+
+    @Override
+    public RetainedIssues readRetainedIssues(final ToolConfiguration tool, final String baseDirectory,
+            final String excludedDirectory, final FilteredLog log) {
+        return read(tool, baseDirectory, excludedDirectory, log, tool.getRetention(), tool.getMaxIssues());
+    }
+
+    /**
+     * Reads the static analysis reports of the specified tool and folds them into a single report. The surplus issues
+     * of each report file are discarded as soon as the report file has been read, so only the retained issues of the
+     * tool are kept until all report files have been read.
+     */
+    private RetainedIssues read(final ToolConfiguration tool, final String baseDirectory,
+            final String excludedDirectory, final FilteredLog log, final IssueRetention retention, final int maxIssues) {
+        var parser = ParserDescriptors.get(tool.getId());
 
         var displayName = StringUtils.defaultIfBlank(tool.getName(), parser.getName());
         var total = new Report(tool.getId(), displayName);
         total.setIcon(tool.getIcon());
+        var issues = new RetainedIssues(total, retention, maxIssues);
 
-        var analysisParser = parser.createParser();
         var scope = tool.getScope();
-        for (Path file : REPORT_FINDER.find(log, displayName, tool.getPattern(), baseDirectory, excludedDirectory)) {
-            var report = analysisParser.parse(new FileReaderFactory(file));
+        var files = reportFinder.find(log, displayName, tool.getPattern(),
+                resolve(baseDirectory), resolveExcluded(excludedDirectory));
+        var isShared = tool.getRetention() == IssueRetention.ALL;
+        for (int start = 0; start < files.size(); start += PARSER_BATCH_SIZE) {
+            checkCancellation();
+            var batch = files.subList(start, Math.min(start + PARSER_BATCH_SIZE, files.size()));
+            var reports = parseInParallel(batch, file -> parseReport(tool.getId(), file, parser, isShared));
+            for (int i = 0; i < batch.size(); i++) {
+                var report = reports.get(i);
 
-            if (scope == Scope.PROJECT) {
-                total.addAll(report);
-            }
-            else {
-                var marker = new IssuesInModifiedCodeMarker();
-                if (scope == Scope.MODIFIED_FILES) {
-                    marker.markIssuesInModifiedFiles(report, modifiedLines.keySet());
-                }
-                else if (scope == Scope.MODIFIED_LINES) {
-                    marker.markIssuesInModifiedCode(report, modifiedLines);
-                }
-                total.addAll(report.getInModifiedCode());
+                issues.add(filterByScope(tool, report, isShared));
+
+                log.logInfo("- %s: %s [Whole Project]", getRelativePath(batch.get(i)), report.getSummary());
             }
+        }
+
+        var retained = issues.getReport();
+        log.logInfo("-> %s [%s]", retained.toString(), scope.getDisplayName());
+        if (retained.size() < issues.getTotalSize()) {
+            log.logInfo("-> Retained %d of %d issues", retained.size(), issues.getTotalSize());
+        }
+        return issues;
+    }
 
-            log.logInfo("- %s: %s [Whole Project]", PATH_UTIL.getRelativePath(file), report.getSummary());
+    /**
+     * Parses the specified report file. If all issues of the tool are retained, then the report is stored in the cache
+     * of this grading run, so the report file is parsed only once for all scopes. Otherwise, the report is not stored
+     * in the cache of this grading run, since only some issues of the report will be retained.
+     */
+    private Report parseReport(final String parserId, final Path file, final ParserDescriptor parser,
+            final boolean isShared) {
+        Function<Path, Report> reader = path -> parser.createParser().parse(ReportReaderFactory.create(path));
+        if (isShared) {
+            return parseCache.getReport(parserId, file, reader);
         }
+        return parseCache.parseReport(parserId, file, reader);
+    }
 
-        log.logInfo("-> %s [%s]", total.toString(), scope.getDisplayName());
-        return total;
+    /**
+     * Returns the issues of the specified report that are part of the scope of the tool. The issues in the modified
+     * code are marked if the scope or the {@link IssueRetention#MODIFIED} retention policy needs to know them. A shared
+     * report is copied before its issues are marked, a report that is not shared is marked in place.
+     */
+    private Report filterByScope(final ToolConfiguration tool, final Report report, final boolean isShared) {
+        var scope = tool.getScope();
+        var isMarkingForRetention = tool.getRetention() == IssueRetention.MODIFIED && !modifiedLines.isEmpty();
+        if (scope == Scope.PROJECT && !isMarkingForRetention) {
+            return report;
+        }
+
+        var marked = isShared ? ParseCache.copy(report) : report; // do not mark the issues of the shared report
+        var marker = new IssuesInModifiedCodeMarker();
+        if (scope == Scope.MODIFIED_FILES) {
+            marker.markIssuesInModifiedFiles(marked, modifiedLines.keySet());
+        }
+        else {
+            marker.markIssuesInModifiedCode(marked, modifiedLines);
+        }
+        return scope == Scope.PROJECT ? marked : marked.getInModifiedCode();
     }
 
     @Override
     public Node readNode(final ToolConfiguration tool, final String baseDirectory, final String excludedDirectory,
             final FilteredLog log) {
-        var registry = new edu.hm.hafner.coverage.registry.ParserRegistry();
-        var parser = registry.get(StringUtils.upperCase(tool.getId()), ProcessingMode.IGNORE_ERRORS);
+        var parserId = StringUtils.upperCase(tool.getId());
         var scope = tool.getScope();
 
-        var nodes = new ArrayList<Node>();
-        for (Path file : REPORT_FINDER.find(log, getDisplayName(tool), tool.getPattern(), baseDirectory, excludedDirectory)) {
-            var factory = new FileReaderFactory(file);
-            try (var reader = factory.create()) {
-                var node = parser.parse(reader, file.toString(), log);
+        var files = reportFinder.find(log, getDisplayName(tool), tool.getPattern(),
+                resolve(baseDirectory), resolveExcluded(excludedDirectory));
+        if (files.isEmpty()) {
+            return createEmptyContainer(tool);
+        }
 
-                filterNodesByModifiedFiles(node.getAllFileNodes(), tool.getSourcePath(), file, scope, log);
+        var aggregation = parseCache.getAggregation(createAggregationKey(parserId, tool, files),
+                () -> aggregate(parserId, tool.getSourcePath(), files));
+        aggregation.replayLog(log, getMetric(tool), scope, !modifiedLines.isEmpty() && scope != Scope.PROJECT);
 
-                log.logInfo("- %s: %s [Whole Project]", PATH_UTIL.getRelativePath(file),
-                        extractMetricWithValue(tool, node));
+        var total = switch (scope) {
+            case MODIFIED_FILES -> aggregation.getTotal().filterByModifiedFiles();
+            case MODIFIED_LINES -> aggregation.getTotal().filterByModifiedLines();
+            default -> aggregation.getTotal().copyTree(); // the cached tree must not be attached to the container
+        };
+        log.logInfo("-> %s Total: %s [%s]", getDisplayName(tool), extractValue(tool, total),
+                scope.getDisplayName());
+        // Wrap the node into a container with the specified tool name
+        var containerNode = createEmptyContainer(tool);
+        containerNode.addChild(total);
+        return containerNode;
+    }
 
-                var result = switch (scope) {
-                    case MODIFIED_FILES -> node.filterByModifiedFiles();
-                    case MODIFIED_LINES -> node.filterByModifiedLines();
-                    default -> node;
-                };
+    private String createAggregationKey(final String parserId, final ToolConfiguration tool, final List<Path> files) {
+        return files.stream()
+                .map(file -> file.toUri().normalize().toString())
+                .collect(Collectors.joining("|", parserId + "@" + tool.getSourcePath() + ":", ""));
+    }
 
-                if (scope != Scope.PROJECT) {
-                    log.logInfo("- %s: %s [%s]", PATH_UTIL.getRelativePath(file), extractMetricWithValue(tool, result),
-                            scope.getDisplayName());
-                }
-                nodes.add(result);
+    /**
+     * Parses the specified coverage reports and folds the trees into a single tree. The modified lines are marked in
+     * the trees before they are folded, so the result can be filtered for every scope. The trees of the individual
+     * report files are not retained, only the summary of each report file in every scope is kept for the log.
+     */
+    private CoverageAggregation aggregate(final String parserId, final String sourcePath, final List<Path> files) {
+        var aggregation = new NodeAggregation();
+        var summaries = new ArrayList<ReportSummary>();
+        for (int start = 0; start < files.size(); start += PARSER_BATCH_SIZE) {
+            checkCancellation();
+            var batch = files.subList(start, Math.min(start + PARSER_BATCH_SIZE, files.size()));
+            var parsedNodes = parseInParallel(batch, file -> parseWithBufferedLog(parserId, file));
+            for (int i = 0; i < batch.size(); i++) {
+                var file = batch.get(i);
+                var parsedNode = parsedNodes.get(i);
+
+                var node = parsedNode.getNode();
+                var matchedFiles = markModifiedLines(node.getAllFileNodes(), sourcePath, file);
+                summaries.add(new ReportSummary(getRelativePath(file), parsedNode, matchedFiles));
+                aggregation.add(node);
             }
-            catch (IOException exception) {
-                throw new ParsingException(exception);
+        }
+        return new CoverageAggregation(aggregation.merge(), summaries);
+    }
+
+    /**
+     * Parses the specified files in parallel and returns the results in the order of the files. If the current thread
+     * is interrupted while waiting for the results, e.g., because the deadline of the tool has been exceeded, then
+     * the files that are still being parsed are interrupted and the files that have not been parsed yet are skipped.
+     */
+    private <T> List<T> parseInParallel(final List<Path> files, final Function<Path, T> parser) {
+        var results = files.stream()
+                .map(file -> workers.submit(() -> parser.apply(file)))
+                .toList();
+        try {
+            var parsed = new ArrayList<T>(files.size());
+            for (Future<T> result : results) {
+                parsed.add(result.get());
             }
+            return parsed;
         }
+        catch (InterruptedException exception) {
+            cancel(results);
+            Thread.currentThread().interrupt();
 
-        if (nodes.isEmpty()) {
-            return createEmptyContainer(tool);
+            throw new CancellationException("Parsing of reports has been cancelled");
         }
-        else {
-            var aggregation = Node.merge(nodes);
-            log.logInfo("-> %s Total: %s [%s]", getDisplayName(tool), extractValue(tool, aggregation),
-                    scope.getDisplayName());
-            // Wrap the node into a container with the specified tool name
-            var containerNode = createEmptyContainer(tool);
-            containerNode.addChild(aggregation);
-            return containerNode;
+        catch (ExecutionException exception) {
+            cancel(results);
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+    private void cancel(final List<? extends Future<?>> results) {
+        results.forEach(result -> result.cancel(true));
+    }
+
+    /**
+     * Stops parsing if the current thread has been interrupted, e.g., because the deadline of the tool has been
+     * exceeded. The check is performed before each batch of report files.
+     */
+    private void checkCancellation() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Parsing of reports has been cancelled");
+        }
+    }
+
+    private String getRelativePath(final Path file) {
+        if (ReportFinder.isArchived(file)) {
+            return file.getFileSystem() + "!" + file;
+        }
+        return PATH_UTIL.getRelativePath(file);
+    }
+
+    private String resolve(final String directory) {
+        if (DEFAULT_WORKSPACE.equals(workspace)) {
+            return directory;
         }
+        return workspace.resolve(directory).normalize().toString();
+    }
+
+    private String resolveExcluded(final String directory) {
+        if (NO_DELTA_REPORTS.equals(directory)) {
+            return directory; // nothing to exclude
+        }
+        return resolve(directory);
     }
 
     /**
-     * Filters file nodes by matching their paths against modified lines from PR diffs. Uses enhanced bidirectional
-     * suffix matching to support multiple coverage tools and multi-module projects.
+     * Parses the specified coverage report. This method is invoked concurrently for all report files of a tool, so each
+     * invocation uses its own parser instance and buffers the log messages of the parser. The buffered messages are
+     * stored with the tree and replayed in the order of the report files, so the log is the same as with sequential
+     * parsing, even if the tree has been obtained from the cache.
+     *
+     * @param parserId
+     *         the ID of the coverage parser
+     * @param file
+     *         the report file to parse
+     *
+     * @return the parsed node and the buffered log messages
+     */
+    private ParsedNode parseWithBufferedLog(final String parserId, final Path file) {
+        return parseCache.getNode(parserId, file, path -> {
+            var buffer = new LogBuffer();
+            return new ParsedNode(parseNode(parserId, path, buffer.getLog()), buffer);
+        });
+    }
+
+    private Node parseNode(final String parserId, final Path file, final FilteredLog log) {
+        var parser = new edu.hm.hafner.coverage.registry.ParserRegistry().get(parserId, ProcessingMode.IGNORE_ERRORS);
+        var factory = ReportReaderFactory.create(file);
+        try (var reader = factory.create()) {
+            return parser.parse(reader, file.toString(), log);
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    /**
+     * Marks the modified lines in the file nodes by matching their paths against modified lines from PR diffs. Uses
+     * enhanced bidirectional suffix matching to support multiple coverage tools and multi-module projects.
      *
      * @param files
      *         the list of file nodes from the coverage report
@@ -147,15 +366,12 @@ final class FileSystemToolParser implements ToolParser {
      *         the configured source path (maybe empty)
      * @param reportFile
      *         the path to the coverage report file (used for module root extraction)
-     * @param scope
-     *         the scope of the tool configuration (determines logging behavior)
-     * @param log
-     *         logger for debug information
+     *
+     * @return the number of file nodes that have been matched to a modified file
      */
-    private void filterNodesByModifiedFiles(final List<FileNode> files, final String sourcePath,
-            final Path reportFile, final Scope scope, final FilteredLog log) {
+    private int markModifiedLines(final List<FileNode> files, final String sourcePath, final Path reportFile) {
         if (modifiedLines.isEmpty()) {
-            return; // No modified lines to filter
+            return 0; // No modified lines to filter
         }
 
         var pathMatcher = new CoveragePathMatcher(modifiedLines.keySet());
@@ -175,20 +391,14 @@ final class FileSystemToolParser implements ToolParser {
                 }
             }
         }
-
-        if (matchedFiles > 0) {
-            log.logInfo("Successfully matched %d coverage files to PR diff files", matchedFiles);
-        }
-        else if (scope == Scope.MODIFIED_LINES || scope == Scope.MODIFIED_FILES) {
-            log.logInfo("No coverage files matched to PR diff files.");
-        }
+        return matchedFiles;
     }
 
-    private ContainerNode createEmptyContainer(final ToolConfiguration tool) {
+    static ContainerNode createEmptyContainer(final ToolConfiguration tool) {
         return new ContainerNode("%s_%s".formatted(getDisplayName(tool), tool.getScope()));
     }
 
-    private String getDisplayName(final ToolConfiguration tool) {
+    private static String getDisplayName(final ToolConfiguration tool) {
         return StringUtils.defaultIfBlank(tool.getName(), getMetric(tool).getDisplayName());
     }
 
@@ -204,10 +414,111 @@ final class FileSystemToolParser implements ToolParser {
                 .orElse("<none>");
     }
 
-    private Metric getMetric(final ToolConfiguration tool) {
+    private static Metric getMetric(final ToolConfiguration tool) {
         if (StringUtils.isNotBlank(tool.getMetric())) {
             return Metric.fromName(tool.getMetric());
         }
         return Metric.TESTS;
     }
+
+    /**
+     * Merges the coverage trees of the report files of a tool incrementally. Each tree is folded into the aggregated
+     * tree with the same name as soon as it has been parsed, so the trees of the individual report files do not need to
+     * be retained until all report files have been parsed. The result is the same as calling {@link Node#merge(List)}
+     * with all trees in the order of the report files.
+     */
+    private static final class NodeAggregation {
+        private final Map<String, Node> nodesByName = new LinkedHashMap<>();
+
+        void add(final Node node) {
+            nodesByName.merge(node.getName(), node, (aggregated, additional) -> Node.merge(List.of(aggregated, additional)));
+        }
+
+        boolean isEmpty() {
+            return nodesByName.isEmpty();
+        }
+
+        Node merge() {
+            return Node.merge(new ArrayList<>(nodesByName.values()));
+        }
+    }
+
+    /**
+     * The folded coverage tree of all report files of a tool, along with a summary of each report file. The tree is
+     * shared by all scopes of the tool, so it must not be modified.
+     */
+    private static final class CoverageAggregation {
+        private final Node total;
+        private final List<ReportSummary> summaries;
+
+        CoverageAggregation(final Node total, final List<ReportSummary> summaries) {
+            this.total = total;
+            this.summaries = List.copyOf(summaries);
+        }
+
+        Node getTotal() {
+            return total;
+        }
+
+        void replayLog(final FilteredLog log, final Metric metric, final Scope scope,
+                final boolean isReportingUnmatchedFiles) {
+            for (ReportSummary summary : summaries) {
+                summary.replayLog(log, metric, scope, isReportingUnmatchedFiles);
+            }
+        }
+    }
+
+    /**
+     * The log messages and the values of a single report file in every scope.
+     */
+    private static final class ReportSummary {
+        private final String fileName;
+        private final List<String> infoMessages;
+        private final List<String> errorMessages;
+        private final int matchedFiles;
+        private final Map<Scope, Map<Metric, Value>> valuesByScope = new EnumMap<>(Scope.class);
+
+        ReportSummary(final String fileName, final ParsedNode parsedNode, final int matchedFiles) {
+            this.fileName = fileName;
+            this.infoMessages = parsedNode.getInfoMessages();
+            this.errorMessages = parsedNode.getErrorMessages();
+            this.matchedFiles = matchedFiles;
+
+            var node = parsedNode.getNode();
+            valuesByScope.put(Scope.PROJECT, getValues(node));
+            if (matchedFiles > 0) { // otherwise, the narrower scopes do not contain any files
+                valuesByScope.put(Scope.MODIFIED_FILES, getValues(node.filterByModifiedFiles()));
+                valuesByScope.put(Scope.MODIFIED_LINES, getValues(node.filterByModifiedLines()));
+            }
+        }
+
+        private static Map<Metric, Value> getValues(final Node node) {
+            var values = new EnumMap<Metric, Value>(Metric.class);
+            for (Metric metric : Metric.values()) {
+                node.getValue(metric).ifPresent(value -> values.put(metric, value));
+            }
+            return values;
+        }
+
+        void replayLog(final FilteredLog log, final Metric metric, final Scope scope,
+                final boolean isReportingUnmatchedFiles) {
+            LogBuffer.replay(infoMessages, errorMessages, log);
+
+            if (matchedFiles > 0) {
+                log.logInfo("Successfully matched %d coverage files to PR diff files", matchedFiles);
+            }
+            else if (isReportingUnmatchedFiles) {
+                log.logInfo("No coverage files matched to PR diff files.");
+            }
+            log.logInfo("- %s: %s [Whole Project]", fileName, getValue(Scope.PROJECT, metric));
+            if (scope != Scope.PROJECT) {
+                log.logInfo("- %s: %s [%s]", fileName, getValue(scope, metric), scope.getDisplayName());
+            }
+        }
+
+        private String getValue(final Scope scope, final Metric metric) {
+            var values = valuesByScope.getOrDefault(scope, Map.of());
+            return values.containsKey(metric) ? values.get(metric).toString() : "<none>";
+        }
+    }
 }
@@ -0,0 +1,107 @@
+package edu.hm.hafner.grading;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.grading.BatchGrading.Submission;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static edu.hm.hafner.grading.Configuration.*;
+
+/**
+ * A table with the grades of several submissions. Each row contains the results of one submission. The table can be
+ * exported as CSV or JSON.
+ *
+ * @author Ullrich Hafner
+ */
+public final class GradeTable {
+    private static final List<String> COLUMNS = List.of("workspace", "tests", "coverage", "analysis", "metrics",
+            "achieved", "max", "percentage", "status");
+    private static final String SEPARATOR = ",";
+    private static final String QUOTE = "\"";
+
+    private final List<Submission> submissions;
+
+    /**
+     * Creates a new table for the specified submissions.
+     *
+     * @param submissions
+     *         the graded submissions
+     */
+    public GradeTable(final List<Submission> submissions) {
+        this.submissions = new ArrayList<>(submissions);
+    }
+
+    /**
+     * Returns the table in CSV format. The first line contains the names of the columns.
+     *
+     * @return the table as CSV
+     */
+    public String asCsv() {
+        var csv = new StringBuilder();
+        csv.append(String.join(SEPARATOR, COLUMNS)).append('\n');
+        for (var submission : submissions) {
+            var row = new StringJoiner(SEPARATOR, "", "\n");
+            getCells(submission).forEach(cell -> row.add(escape(cell)));
+            csv.append(row);
+        }
+        return csv.toString();
+    }
+
+    private String escape(final String cell) {
+        if (StringUtils.containsAny(cell, SEPARATOR, QUOTE, "\n", "\r")) {
+            return QUOTE + cell.replace(QUOTE, QUOTE + QUOTE) + QUOTE;
+        }
+        return cell;
+    }
+
+    /**
+     * Returns the table in JSON format. The table is an array of objects, each object contains the results of one
+     * submission.
+     *
+     * @return the table as JSON
+     */
+    public String asJson() {
+        var mapper = createMapper();
+        var table = mapper.createArrayNode();
+        for (var submission : submissions) {
+            var score = submission.getScore();
+            table.addObject()
+                    .put("workspace", submission.getWorkspace().toString())
+                    .put("tests", score.getTestAchievedScore())
+                    .put("coverage", score.getCoverageAchievedScore())
+                    .put("analysis", score.getAnalysisAchievedScore())
+                    .put("metrics", score.getMetricAchievedScore())
+                    .put("achieved", score.getAchievedScore())
+                    .put("max", score.getMaxScore())
+                    .put("percentage", score.getAchievedPercentage())
+                    .put("status", getStatus(submission));
+        }
+        return mapper.writeValueAsString(table);
+    }
+
+    private List<String> getCells(final Submission submission) {
+        var score = submission.getScore();
+        return List.of(submission.getWorkspace().toString(),
+                String.valueOf(score.getTestAchievedScore()),
+                String.valueOf(score.getCoverageAchievedScore()),
+                String.valueOf(score.getAnalysisAchievedScore()),
+                String.valueOf(score.getMetricAchievedScore()),
+                String.valueOf(score.getAchievedScore()),
+                String.valueOf(score.getMaxScore()),
+                String.valueOf(score.getAchievedPercentage()),
+                getStatus(submission));
+    }
+
+    private String getStatus(final Submission submission) {
+        if (submission.hasFailed()) {
+            return "FAILED";
+        }
+        if (submission.hasErrors()) {
+            return "ERRORS";
+        }
+        return "OK";
+    }
+}
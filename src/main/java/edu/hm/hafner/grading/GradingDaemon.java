@@ -0,0 +1,342 @@
+package edu.hm.hafner.grading;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.util.Ensure;
+import edu.hm.hafner.util.FilteredLog;
+import edu.hm.hafner.util.VisibleForTesting;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+
+import static edu.hm.hafner.grading.Configuration.*;
+
+/**
+ * A long-lived grading process that accepts grading requests on a local port. Since the JVM keeps running between two
+ * gradings, the parser registries, Jackson, and the JIT compiled code are already warmed up when a new request
+ * arrives.
+ *
+ * <p>
+ * The daemon listens on the loopback interface only. Each connection contains a single request that consists of two
+ * lines: the access token of the daemon and a JSON object with the properties {@code workspace}, {@code config},
+ * {@code qualityGates}, and {@code modifiedLines} (a map of file names to the modified line numbers). The daemon streams
+ * the log of the grading back to the client and finishes the response with a single line that starts with
+ * {@value #SCORE_PREFIX} and contains the score as JSON object. Up to {@value #MAX_CONCURRENT_REQUESTS} requests are
+ * processed concurrently, further connections wait until a request has been finished. A client that does not send its
+ * request within {@value #READ_TIMEOUT} milliseconds is disconnected, so idle connections cannot block the daemon.
+ * </p>
+ *
+ * <p>
+ * The daemon enables the {@link SharedParseCache}, so report files that have been parsed for a previous request are
+ * not parsed again, e.g., the reports of a reference build. The maximum weight of the cache can be configured, the
+ * previous weight is restored when the daemon is closed.
+ * </p>
+ *
+ * <p>
+ * Trust model: a request makes the daemon read arbitrary files of the workspace with the permissions of the daemon.
+ * Since every local user can connect to a loopback port, the daemon accepts only requests that start with its access
+ * token. The token is a shared secret between the daemon and its trusted clients: it must be handed to the clients by
+ * the host that starts the daemon (e.g., in an environment variable or a file that only the clients can read). The
+ * daemon does not authenticate or isolate the clients beyond that, so all clients that know the token must be trusted
+ * with the permissions of the daemon. Remote hosts cannot connect at all.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public class GradingDaemon implements AutoCloseable {
+    static final String SCORE_PREFIX = "SCORE ";
+    static final String TOKEN_VARIABLE = "AUTOGRADING_DAEMON_TOKEN";
+    static final int MAX_CONCURRENT_REQUESTS = 4;
+    static final int READ_TIMEOUT = 10_000;
+    static final long DEFAULT_CACHE_WEIGHT = 256L * 1024 * 1024;
+    private static final int TOKEN_SIZE = 32;
+    private static final long MEGABYTE = 1024L * 1024;
+
+    private final ServerSocket serverSocket;
+    private final byte[] token;
+    private final PrintStream log;
+    private final long previousCacheWeight;
+
+    /**
+     * Starts a daemon that listens on the local port that is given as first argument. The optional second argument
+     * sets the maximum weight of the {@link SharedParseCache} in megabytes. The access token is read from the
+     * environment variable {@value #TOKEN_VARIABLE}.
+     *
+     * @param args
+     *         the port to listen on and the optional maximum weight of the parse cache
+     *
+     * @throws IOException
+     *         if the port cannot be opened
+     */
+    public static void main(final String... args) throws IOException {
+        Ensure.that(args.length == 1 || args.length == 2).isTrue("Usage: GradingDaemon <port> [cache size in MB]");
+
+        var cacheWeight = args.length == 2 ? Long.parseLong(args[1]) * MEGABYTE : DEFAULT_CACHE_WEIGHT;
+        try (var daemon = new GradingDaemon(Integer.parseInt(args[0]),
+                Objects.requireNonNullElse(System.getenv(TOKEN_VARIABLE), StringUtils.EMPTY), cacheWeight)) {
+            daemon.serve();
+        }
+    }
+
+    /**
+     * Creates a new daemon that listens on the specified local port. The daemon uses a random access token, see
+     * {@link #getToken()}.
+     *
+     * @param port
+     *         the port to listen on, use 0 to select a free port
+     *
+     * @throws IOException
+     *         if the port cannot be opened
+     */
+    public GradingDaemon(final int port) throws IOException {
+        this(port, createToken());
+    }
+
+    /**
+     * Creates a new daemon that listens on the specified local port.
+     *
+     * @param port
+     *         the port to listen on, use 0 to select a free port
+     * @param token
+     *         the access token that clients must send with each request
+     *
+     * @throws IOException
+     *         if the port cannot be opened
+     */
+    public GradingDaemon(final int port, final String token) throws IOException {
+        this(port, token, DEFAULT_CACHE_WEIGHT);
+    }
+
+    /**
+     * Creates a new daemon that listens on the specified local port and caches parsed reports up to the specified
+     * weight.
+     *
+     * @param port
+     *         the port to listen on, use 0 to select a free port
+     * @param token
+     *         the access token that clients must send with each request
+     * @param cacheWeight
+     *         the maximum weight of the {@link SharedParseCache}, i.e. the sum of the sizes of all cached report files
+     *         in bytes. A value of 0 disables the cache.
+     *
+     * @throws IOException
+     *         if the port cannot be opened
+     */
+    public GradingDaemon(final int port, final String token, final long cacheWeight) throws IOException {
+        this(port, token, cacheWeight, System.err);
+    }
+
+    @VisibleForTesting
+    GradingDaemon(final int port, final String token, final long cacheWeight, final PrintStream log)
+            throws IOException {
+        Ensure.that(StringUtils.isNotBlank(token)).isTrue("The daemon requires an access token");
+
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        this.log = log;
+        serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+
+        var cache = SharedParseCache.getInstance();
+        previousCacheWeight = cache.getMaxWeight();
+        cache.setMaxWeight(cacheWeight);
+    }
+
+    private static String createToken() {
+        var bytes = new byte[TOKEN_SIZE];
+        new SecureRandom().nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the access token of this daemon. Hand this token only to trusted clients.
+     *
+     * @return the access token
+     */
+    public String getToken() {
+        return new String(token, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Processes grading requests until the daemon has been closed. The connections are accepted by the calling thread
+     * and processed by a bounded pool of workers.
+     */
+    public void serve() {
+        try (var workers = Executors.newFixedThreadPool(MAX_CONCURRENT_REQUESTS)) {
+            while (!serverSocket.isClosed()) {
+                try {
+                    var socket = serverSocket.accept();
+                    workers.execute(() -> process(socket));
+                }
+                catch (IOException exception) {
+                    if (!serverSocket.isClosed()) {
+                        log.println("Cannot accept grading request: " + exception.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    private void process(final Socket socket) {
+        try (socket; var output = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            socket.setSoTimeout(READ_TIMEOUT);
+            handle(socket, output);
+        }
+        catch (IOException exception) {
+            log.println("Cannot process grading request: " + exception.getMessage());
+        }
+    }
+
+    private void handle(final Socket socket, final PrintStream output) {
+        try {
+            var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            if (!isAuthorized(reader.readLine())) {
+                output.println("Grading request rejected: invalid access token");
+                return;
+            }
+            var line = reader.readLine();
+            if (StringUtils.isBlank(line)) {
+                output.println("Empty grading request");
+                return;
+            }
+            grade(line, output);
+        }
+        catch (IOException exception) {
+            log.println("Cannot read grading request: " + exception.getMessage());
+            output.println("Cannot process grading request: " + exception.getMessage());
+        }
+    }
+
+    private boolean isAuthorized(@CheckForNull final String line) {
+        return line != null && MessageDigest.isEqual(token, line.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void grade(final String line, final PrintStream output) {
+        try {
+            var request = createMapper().readValue(line, GradingRequest.class);
+            var runner = new DaemonRunner(request, output);
+            var score = runner.run();
+            output.println(SCORE_PREFIX + toJson(score, runner.getQualityGateResult()));
+        }
+        catch (RuntimeException exception) { // NOPMD: the daemon must not stop on invalid requests
+            log.println("Grading request failed: " + exception.getMessage());
+            output.println("Grading request failed: " + exception.getMessage());
+        }
+    }
+
+    static String toJson(final AggregatedScore score, final QualityGateResult qualityGateResult) {
+        var json = createMapper().createObjectNode()
+                .put("achievedScore", score.getAchievedScore())
+                .put("maxScore", score.getMaxScore())
+                .put("percentage", score.getAchievedPercentage())
+                .put("qualityGates", qualityGateResult.getOverallStatus().name());
+        var metrics = json.putObject("metrics");
+        new TreeMap<>(score.getMetrics()).forEach(metrics::put);
+        return json.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        SharedParseCache.getInstance().setMaxWeight(previousCacheWeight);
+    }
+
+    /**
+     * A grading request that has been sent to the daemon.
+     */
+    @SuppressWarnings({"FieldCanBeFinal", "FieldMayBeFinal", "PMD.DataClass", "PMD.ImmutableField"})
+    public static class GradingRequest {
+        private String workspace = ".";
+        private String config = "";
+        private String qualityGates = "";
+        private Map<String, List<Integer>> modifiedLines = new HashMap<>();
+
+        public String getWorkspace() {
+            return workspace;
+        }
+
+        public String getConfig() {
+            return config;
+        }
+
+        public String getQualityGates() {
+            return qualityGates;
+        }
+
+        public Map<String, List<Integer>> getModifiedLines() {
+            return modifiedLines;
+        }
+    }
+
+    /**
+     * An {@link AutoGradingRunner} that obtains its environment from a {@link GradingRequest}.
+     */
+    private static class DaemonRunner extends AutoGradingRunner {
+        private final GradingRequest request;
+        private QualityGateResult qualityGateResult = new QualityGateResult();
+
+        DaemonRunner(final GradingRequest request, final PrintStream outputStream) {
+            super(outputStream);
+
+            this.request = request;
+        }
+
+        QualityGateResult getQualityGateResult() {
+            return qualityGateResult;
+        }
+
+        @Override
+        protected void publishGradingResult(final AggregatedScore score, final QualityGateResult result,
+                final FilteredLog log) {
+            qualityGateResult = result;
+        }
+
+        @Override
+        protected Path getWorkspace() {
+            return Path.of(request.getWorkspace());
+        }
+
+        @CheckForNull
+        @Override
+        protected String getEnvironmentVariable(final String name) {
+            return switch (name) {
+                case "CONFIG" -> request.getConfig();
+                case "QUALITY_GATES" -> request.getQualityGates();
+                default -> null;
+            };
+        }
+
+        @Override
+        protected Map<String, Set<Integer>> extractModifiedLinesFromDiff(final FilteredLog log) {
+            var lines = new HashMap<String, Set<Integer>>();
+            request.getModifiedLines().forEach((file, numbers) -> lines.put(file, Set.copyOf(numbers)));
+            return lines;
+        }
+
+        @Override
+        protected Optional<Path> fetchDeltaReportsFromPreviousPipeline(final FilteredLog log) {
+            return Optional.empty();
+        }
+    }
+}
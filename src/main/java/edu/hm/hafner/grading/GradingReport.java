@@ -6,9 +6,15 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.StringJoiner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Creates a human-readable report of the grading results.
@@ -21,9 +27,34 @@ public class GradingReport {
     private static final CodeCoverageMarkdown CODE_COVERAGE_MARKDOWN = new CodeCoverageMarkdown();
     private static final MutationCoverageMarkdown MUTATION_COVERAGE_MARKDOWN = new MutationCoverageMarkdown();
     private static final MetricMarkdown METRIC_MARKDOWN = new MetricMarkdown();
+    private static final List<ScoreMarkdown<?, ?>> DETAILS = List.of(TEST_MARKDOWN, ANALYSIS_MARKDOWN,
+            CODE_COVERAGE_MARKDOWN, MUTATION_COVERAGE_MARKDOWN, METRIC_MARKDOWN); // ordered by priority
+    private static final List<ScoreMarkdown<?, ?>> SUMMARIES = List.of(TEST_MARKDOWN, CODE_COVERAGE_MARKDOWN,
+            MUTATION_COVERAGE_MARKDOWN, ANALYSIS_MARKDOWN, METRIC_MARKDOWN);
+    private static final int MIN_SECTION_SIZE = 100; // sections with a smaller budget are omitted
     private static final String DEFAULT_TITLE = "Autograding score";
     private static final String PARAGRAPH = ScoreMarkdown.PARAGRAPH;
 
+    private final boolean isRenderingConcurrently;
+
+    /**
+     * Creates a new report that renders the independent sections of the Markdown concurrently.
+     */
+    public GradingReport() {
+        this(true);
+    }
+
+    /**
+     * Creates a new report.
+     *
+     * @param isRenderingConcurrently
+     *         determines whether the independent sections of the Markdown will be rendered concurrently or one after
+     *         another; the rendered Markdown is the same in both modes
+     */
+    GradingReport(final boolean isRenderingConcurrently) {
+        this.isRenderingConcurrently = isRenderingConcurrently;
+    }
+
     /**
      * Returns a short summary for the grading results. This text does not use Markdown and fits into a single line.
      *
@@ -149,20 +180,50 @@ public class GradingReport {
     private String joinSummaries(final AggregatedScore score, final boolean showHeaders) {
         var joiner = new StringJoiner(showHeaders ? ScoreMarkdown.PARAGRAPH : ScoreMarkdown.LINE_BREAK_PARAGRAPH);
 
-        add(score, showHeaders, joiner, TEST_MARKDOWN);
-        add(score, showHeaders, joiner, CODE_COVERAGE_MARKDOWN);
-        add(score, showHeaders, joiner, MUTATION_COVERAGE_MARKDOWN);
-        add(score, showHeaders, joiner, ANALYSIS_MARKDOWN);
-        add(score, showHeaders, joiner, METRIC_MARKDOWN);
+        render(SUMMARIES, markdown -> markdown.createSummary(score, showHeaders)).stream()
+                .filter(summary -> !summary.isBlank())
+                .forEach(joiner::add);
 
         return joiner.toString();
     }
 
-    private void add(final AggregatedScore score, final boolean showHeaders, final StringJoiner joiner,
-            final ScoreMarkdown<?, ?> markdown) {
-        var summary = markdown.createSummary(score, showHeaders);
-        if (!summary.isBlank()) {
-            joiner.add(summary);
+    /**
+     * Renders the specified sections. The sections are independent of each other, so they are rendered concurrently
+     * if enabled. The results are returned in the order of the sections, so the joined Markdown is the same as when
+     * rendering the sections one after another.
+     */
+    private List<String> render(final List<ScoreMarkdown<?, ?>> sections,
+            final Function<ScoreMarkdown<?, ?>, String> renderer) {
+        if (!isRenderingConcurrently) {
+            return sections.stream().map(renderer).toList();
+        }
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var futures = new ArrayList<Future<String>>();
+            sections.forEach(section -> futures.add(executor.submit(() -> renderer.apply(section))));
+
+            var results = new ArrayList<String>();
+            for (Future<String> future : futures) {
+                results.add(getSection(future));
+            }
+            return results;
+        }
+    }
+
+    private String getSection(final Future<String> future) {
+        try {
+            return future.get();
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("Rendering of the Markdown has been interrupted", exception);
+        }
+        catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException; // report the same exception as when rendering the sections serially
+            }
+            throw new IllegalStateException("Rendering of the Markdown failed", exception.getCause());
         }
     }
 
@@ -205,14 +266,65 @@ public class GradingReport {
      * @return Markdown text
      */
     public String getMarkdownDetails(final AggregatedScore score, final String title, final boolean showDisabled) {
-        return createMarkdownTotal(score, title, 1)
-                + PARAGRAPH
-                + TEST_MARKDOWN.createDetails(score, showDisabled)
-                + ANALYSIS_MARKDOWN.createDetails(score, showDisabled)
-                + CODE_COVERAGE_MARKDOWN.createDetails(score, showDisabled)
-                + MUTATION_COVERAGE_MARKDOWN.createDetails(score, showDisabled)
-                + METRIC_MARKDOWN.createDetails(score, showDisabled)
-                + getTargetDetails();
+        return getMarkdownDetails(score, title, showDisabled, MarkdownBudget.GITHUB_MAX_SIZE);
+    }
+
+    /**
+     * Creates a detailed description of the grading results in Markdown. The size of the description is limited to the
+     * specified number of characters: the available characters are split across the sections (tests, analysis, code
+     * coverage, mutation coverage, and metrics) according to their actual size, see {@link MarkdownBudget}. Each
+     * section is rendered only once, with the size of the whole budget, so that large sections are not rendered in
+     * full. Sections that exceed their share are truncated at a line of the rendered Markdown. Sections with a share
+     * that is too small for useful details are replaced by a short note. If even the title does not fit, then the
+     * reference results are skipped and the title is truncated.
+     *
+     * @param score
+     *         the aggregated score
+     * @param title
+     *         the title of the details
+     * @param showDisabled
+     *         determines whether disabled scores should be shown or skipped
+     * @param maxSize
+     *         the maximum number of characters of the details
+     *
+     * @return Markdown text
+     */
+    public String getMarkdownDetails(final AggregatedScore score, final String title, final boolean showDisabled,
+            final int maxSize) {
+        var header = createMarkdownTotal(score, title, 1) + PARAGRAPH;
+        var footer = getTargetDetails();
+        if (header.length() + footer.length() > maxSize) {
+            footer = StringUtils.EMPTY; // the reference results are optional
+            header = StringUtils.truncate(header, Math.max(maxSize, 0));
+        }
+        var available = maxSize - header.length() - footer.length();
+        if (available <= 0) {
+            return header + footer;
+        }
+
+        var sections = render(DETAILS, markdown -> markdown.createDetails(score, showDisabled, available));
+        var needs = sections.stream().mapToInt(String::length).toArray();
+        var allocations = new MarkdownBudget(available).allocate(needs);
+
+        var size = header.length() + IntStream.of(needs).sum() + footer.length();
+        var details = new StringBuilder(Math.min(maxSize, size));
+        details.append(header);
+        for (int i = 0; i < sections.size(); i++) {
+            details.append(fit(sections.get(i), allocations[i], DETAILS.get(i)));
+        }
+        details.append(footer);
+        return details.toString();
+    }
+
+    private String fit(final String section, final int allocation, final ScoreMarkdown<?, ?> markdown) {
+        if (section.length() <= allocation) {
+            return section;
+        }
+        if (allocation < MIN_SECTION_SIZE) {
+            var omitted = markdown.createOmitted();
+            return omitted.length() <= allocation ? omitted : StringUtils.EMPTY;
+        }
+        return TruncatedString.fromString(section).buildByChars(allocation);
     }
 
     private String createMarkdownTotal(final AggregatedScore score, final String title, final int size) {
@@ -0,0 +1,149 @@
+package edu.hm.hafner.grading;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.util.Generated;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Classifies the issues of a report into new, outstanding, and fixed issues with respect to the issues of a reference
+ * report. Issues are matched by a fingerprint of their content (origin, file, type, category, severity, and message),
+ * line numbers are not part of the fingerprint so that issues survive unrelated changes above them in the same file.
+ *
+ * <p>
+ * The classification is a hash join: the fingerprints of the reference issues are counted in a single pass, then each
+ * current issue consumes one matching reference issue in a second pass. So the classification requires linear time
+ * even for reports with hundreds of thousands of issues. Identical issues are matched one by one, i.e., if the
+ * reference contains an issue once and the current report twice, then one of them is new.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+final class IssueDelta {
+    /** An empty delta, used if there is no reference. */
+    static final IssueDelta EMPTY = new IssueDelta(Set.of(), 0, 0);
+
+    /**
+     * Classifies the issues of the current report with respect to the issues of the reference report.
+     *
+     * @param current
+     *         the issues of the current build
+     * @param reference
+     *         the issues of the reference build
+     *
+     * @return the classification of the issues
+     */
+    static IssueDelta compute(final Report current, final Report reference) {
+        var index = new HashMap<IssueFingerprint, Integer>(capacity(reference.size()));
+        reference.forEach(issue -> index.merge(new IssueFingerprint(issue), 1, Integer::sum));
+
+        var newIssues = new HashSet<UUID>(capacity(current.size()));
+        var outstanding = 0;
+        for (Issue issue : current) {
+            var fingerprint = new IssueFingerprint(issue);
+            var count = index.getOrDefault(fingerprint, 0);
+            if (count > 0) {
+                index.put(fingerprint, count - 1);
+                outstanding++;
+            }
+            else {
+                newIssues.add(issue.getId());
+            }
+        }
+        return new IssueDelta(newIssues, outstanding, reference.size() - outstanding);
+    }
+
+    private static int capacity(final int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    private final Set<UUID> newIssues;
+    private final int outstandingSize;
+    private final int fixedSize;
+
+    private IssueDelta(final Set<UUID> newIssues, final int outstandingSize, final int fixedSize) {
+        this.newIssues = newIssues;
+        this.outstandingSize = outstandingSize;
+        this.fixedSize = fixedSize;
+    }
+
+    /**
+     * Returns whether the specified issue is new, i.e., it has no counterpart in the reference report.
+     *
+     * @param issue
+     *         the issue to check
+     *
+     * @return {@code true} if the issue is new, {@code false} otherwise
+     */
+    boolean isNew(final Issue issue) {
+        return newIssues.contains(issue.getId());
+    }
+
+    Set<UUID> getNewIssues() {
+        return newIssues;
+    }
+
+    int getNewSize() {
+        return newIssues.size();
+    }
+
+    int getOutstandingSize() {
+        return outstandingSize;
+    }
+
+    int getFixedSize() {
+        return fixedSize;
+    }
+
+    /**
+     * The fingerprint of the content of an issue. The hash code is computed only once since each fingerprint is
+     * hashed at least once and compared multiple times.
+     */
+    private static final class IssueFingerprint {
+        private final String origin;
+        private final String fileName;
+        private final String type;
+        private final String category;
+        private final String severity;
+        private final String message;
+        private final int hash;
+
+        IssueFingerprint(final Issue issue) {
+            origin = issue.getOrigin();
+            fileName = issue.getFileName();
+            type = issue.getType();
+            category = issue.getCategory();
+            severity = issue.getSeverity().getName();
+            message = issue.getMessage();
+            hash = Objects.hash(origin, fileName, type, category, severity, message);
+        }
+
+        @Override
+        @Generated
+        public boolean equals(final Object o) {
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var that = (IssueFingerprint) o;
+            return hash == that.hash
+                    && origin.equals(that.origin)
+                    && fileName.equals(that.fileName)
+                    && type.equals(that.type)
+                    && category.equals(that.category)
+                    && severity.equals(that.severity)
+                    && message.equals(that.message);
+        }
+
+        @Override
+        @Generated
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package edu.hm.hafner.grading;
+
+import org.apache.commons.lang3.Strings;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+
+import java.util.List;
+
+/**
+ * Defines which issues of a static analysis tool are retained in the score. The scores only require the number of
+ * issues per severity, so the surplus issues can be discarded. The issues of each report file are discarded as soon as
+ * the report file has been read, see {@link RetainedIssues}. This reduces the memory that is required while the
+ * reports are read, and the memory of scores that are kept after grading, e.g., the scores of all submissions in
+ * {@link BatchGrading}. If the score computes the delta to a reference build, then the issues are discarded after the
+ * delta has been computed. The counters of the scores are always computed from all issues.
+ *
+ * @author Ullrich Hafner
+ */
+public enum IssueRetention {
+    /** Retains all issues. */
+    ALL,
+    /**
+     * Retains the issues in the modified code, plus the most severe other issues up to a configurable maximum. If no
+     * maximum has been configured, then {@link #DEFAULT_MAX_ISSUES} other issues are retained.
+     */
+    MODIFIED,
+    /** Retains no issues at all, only the counters of the issues are available. */
+    COUNTERS;
+
+    /** The number of issues outside the modified code that are retained if no maximum has been configured. */
+    static final int DEFAULT_MAX_ISSUES = 100;
+
+    private static final List<Severity> SEVERITIES = List.of(Severity.ERROR, Severity.WARNING_HIGH,
+            Severity.WARNING_NORMAL, Severity.WARNING_LOW);
+
+    /**
+     * Converts the given string to the corresponding retention policy.
+     *
+     * @param value
+     *         the string representation of the retention policy
+     *
+     * @return the corresponding retention policy
+     *
+     * @throws IllegalArgumentException
+     *         if the string does not match any retention policy
+     */
+    public static IssueRetention fromString(final String value) {
+        return switch (value) {
+            case String s when s.isBlank() -> ALL;
+            case String s when Strings.CI.containsAny(s, "all") -> ALL;
+            case String s when Strings.CI.containsAny(s, "modified", "diff", "changed") -> MODIFIED;
+            case String s when Strings.CI.containsAny(s, "counter", "none") -> COUNTERS;
+            default -> throw new IllegalArgumentException("No such issue retention available: " + value);
+        };
+    }
+
+    /**
+     * Returns the issues of the specified report that should be retained.
+     *
+     * @param report
+     *         the report with all issues
+     * @param maxIssues
+     *         the maximum number of issues outside the modified code to retain for {@link #MODIFIED}, 0 to use the
+     *         {@link #DEFAULT_MAX_ISSUES default}
+     *
+     * @return the retained issues, or the specified report if all issues are retained
+     */
+    Report retain(final Report report, final int maxIssues) {
+        return switch (this) {
+            case ALL -> report;
+            case COUNTERS -> report.copyEmptyInstance();
+            case MODIFIED -> retainModified(report, maxIssues);
+        };
+    }
+
+    private Report retainModified(final Report report, final int maxIssues) {
+        var retained = report.copyEmptyInstance();
+        report.stream().filter(Issue::isPartOfModifiedCode).forEach(retained::add);
+
+        var remaining = maxIssues > 0 ? maxIssues : DEFAULT_MAX_ISSUES;
+        for (Severity severity : SEVERITIES) {
+            if (remaining == 0) {
+                break;
+            }
+            var issues = report.stream()
+                    .filter(issue -> !issue.isPartOfModifiedCode())
+                    .filter(issue -> issue.getSeverity().equals(severity))
+                    .limit(remaining)
+                    .toList();
+            issues.forEach(retained::add);
+            remaining -= issues.size();
+        }
+        return retained;
+    }
+}
@@ -0,0 +1,183 @@
+package edu.hm.hafner.grading;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.coverage.FileNode;
+import edu.hm.hafner.coverage.Metric;
+import edu.hm.hafner.coverage.Node;
+import edu.hm.hafner.coverage.TestCase;
+import edu.hm.hafner.util.LineRange;
+
+import java.io.OutputStream;
+import java.util.List;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.core.json.JsonFactory;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Exports the results of an {@link AggregatedScore} as newline delimited JSON (NDJSON). Each line of the output is a
+ * JSON object with a {@code type} property that describes the content of the line:
+ *
+ * <ul>
+ *     <li>{@code aggregation}: the achieved and maximum score of the whole grading</li>
+ *     <li>{@code score}: a test, coverage, analysis, or metric score</li>
+ *     <li>{@code tool}: a sub score of such a score, i.e., the results of a single tool</li>
+ *     <li>{@code issue}: an issue reported by a static analysis tool</li>
+ *     <li>{@code failure}: a failed test</li>
+ *     <li>{@code missedLines}: a range of lines that are not covered by tests</li>
+ * </ul>
+ *
+ * <p>
+ * The objects are written one by one using a Jackson {@link JsonGenerator} directly to the output stream. The issues
+ * and failed tests are taken from the scores as they are, and the coverage trees are walked recursively, so only the
+ * missed line ranges of a single file are computed at a time. So even very large results can be exported with a
+ * small additional heap, e.g., in {@link AutoGradingRunner#publishGradingResult}.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public final class JsonLinesExporter {
+    private static final String TYPE = "type";
+    private static final String SCORE = "score";
+    private static final String TOOL = "tool";
+    private static final String NAME = "name";
+    private static final String FILE_NAME = "fileName";
+    private static final String LINE_START = "lineStart";
+    private static final String LINE_END = "lineEnd";
+    private static final String MESSAGE = "message";
+
+    private final JsonMapper mapper = JsonMapper.builder(JsonFactory.builder().rootValueSeparator("\n").build())
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    /**
+     * Writes the specified score and all of its details to the output stream. The output stream is flushed but not
+     * closed.
+     *
+     * @param score
+     *         the score to export
+     * @param output
+     *         the stream to write the lines to
+     */
+    public void export(final AggregatedScore score, final OutputStream output) {
+        try (var generator = mapper.createGenerator(output)) {
+            writeAggregation(generator, score);
+
+            writeScores(generator, "test", score.getTestScores());
+            writeScores(generator, "coverage", score.getCoverageScores());
+            writeScores(generator, "analysis", score.getAnalysisScores());
+            writeScores(generator, "metric", score.getMetricScores());
+
+            for (TestScore testScore : score.getTestScores()) {
+                for (TestScore tool : testScore.getSubScores()) {
+                    tool.getFailures().forEach(failure -> writeFailure(generator, testScore, tool, failure));
+                }
+            }
+            for (CoverageScore coverageScore : score.getCoverageScores()) {
+                for (CoverageScore tool : coverageScore.getSubScores()) {
+                    if (tool.getMetric() == Metric.LINE || tool.getMetric() == Metric.MUTATION) {
+                        writeMissedLinesOfTree(generator, coverageScore, tool, tool.getReport());
+                    }
+                }
+            }
+            for (AnalysisScore analysisScore : score.getAnalysisScores()) {
+                for (AnalysisScore tool : analysisScore.getSubScores()) {
+                    tool.getReport().forEach(issue -> writeIssue(generator, analysisScore, tool, issue));
+                }
+            }
+
+            generator.writeRaw('\n');
+        }
+    }
+
+    private void writeAggregation(final JsonGenerator generator, final AggregatedScore score) {
+        generator.writeStartObject();
+        generator.writeStringProperty(TYPE, "aggregation");
+        generator.writeNumberProperty("achievedScore", score.getAchievedScore());
+        generator.writeNumberProperty("maxScore", score.getMaxScore());
+        generator.writeNumberProperty("percentage", score.getAchievedPercentage());
+        generator.writeEndObject();
+    }
+
+    private <S extends Score<S, ?>> void writeScores(final JsonGenerator generator, final String category,
+            final List<S> scores) {
+        for (S score : scores) {
+            generator.writeStartObject();
+            generator.writeStringProperty(TYPE, SCORE);
+            generator.writeStringProperty("category", category);
+            writeScoreProperties(generator, score);
+            generator.writeEndObject();
+
+            for (S tool : score.getSubScores()) {
+                generator.writeStartObject();
+                generator.writeStringProperty(TYPE, TOOL);
+                generator.writeStringProperty(SCORE, score.getName());
+                writeScoreProperties(generator, tool);
+                generator.writeEndObject();
+            }
+        }
+    }
+
+    private void writeScoreProperties(final JsonGenerator generator, final Score<?, ?> score) {
+        generator.writeStringProperty(NAME, score.getName());
+        generator.writeStringProperty("scope", score.getScope().name());
+        generator.writeNumberProperty("value", score.getValue());
+        generator.writeNumberProperty("maxScore", score.getMaxScore());
+        generator.writeNumberProperty("impact", score.getImpact());
+        generator.writeStringProperty("summary", score.getSummary());
+    }
+
+    private void writeFailure(final JsonGenerator generator, final TestScore score, final TestScore tool,
+            final TestCase failure) {
+        generator.writeStartObject();
+        generator.writeStringProperty(TYPE, "failure");
+        generator.writeStringProperty(SCORE, score.getName());
+        generator.writeStringProperty(TOOL, tool.getName());
+        generator.writeStringProperty("className", failure.getClassName());
+        generator.writeStringProperty("testName", failure.getTestName());
+        generator.writeStringProperty(MESSAGE, failure.getMessage());
+        generator.writeEndObject();
+    }
+
+    private void writeMissedLinesOfTree(final JsonGenerator generator, final CoverageScore score,
+            final CoverageScore tool, final Node node) {
+        if (node instanceof FileNode file) {
+            writeMissedLines(generator, score, tool, file);
+        }
+        else {
+            node.getChildren().forEach(child -> writeMissedLinesOfTree(generator, score, tool, child));
+        }
+    }
+
+    private void writeMissedLines(final JsonGenerator generator, final CoverageScore score, final CoverageScore tool,
+            final FileNode file) {
+        for (LineRange range : file.getMissedLineRanges()) {
+            generator.writeStartObject();
+            generator.writeStringProperty(TYPE, "missedLines");
+            generator.writeStringProperty(SCORE, score.getName());
+            generator.writeStringProperty(TOOL, tool.getName());
+            generator.writeStringProperty(FILE_NAME, file.getRelativePath());
+            generator.writeNumberProperty(LINE_START, range.getStart());
+            generator.writeNumberProperty(LINE_END, range.getEnd());
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeIssue(final JsonGenerator generator, final AnalysisScore score, final AnalysisScore tool,
+            final Issue issue) {
+        generator.writeStartObject();
+        generator.writeStringProperty(TYPE, "issue");
+        generator.writeStringProperty(SCORE, score.getName());
+        generator.writeStringProperty(TOOL, tool.getName());
+        generator.writeStringProperty(FILE_NAME, issue.getFileName());
+        generator.writeNumberProperty(LINE_START, issue.getLineStart());
+        generator.writeNumberProperty(LINE_END, issue.getLineEnd());
+        generator.writeNumberProperty("columnStart", issue.getColumnStart());
+        generator.writeNumberProperty("columnEnd", issue.getColumnEnd());
+        generator.writeStringProperty("severity", issue.getSeverity().getName());
+        generator.writeStringProperty("category", issue.getCategory());
+        generator.writeStringProperty("issueType", issue.getType());
+        generator.writeStringProperty(MESSAGE, issue.getMessage());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,67 @@
+package edu.hm.hafner.grading;
+
+import edu.hm.hafner.util.FilteredLog;
+
+import java.util.List;
+
+/**
+ * Buffers the log messages that are reported while reading the reports of a tool. The messages are written to the
+ * actual log later on, e.g., after the reports have been read in another thread, or whenever a result that has been
+ * read before is obtained from a cache. So the log is the same as if the reports had been read directly.
+ *
+ * @author Ullrich Hafner
+ */
+final class LogBuffer {
+    private static final String TITLE = "Parser Errors:";
+
+    /**
+     * Writes the specified messages to the specified log.
+     *
+     * @param infoMessages
+     *         the info messages to write
+     * @param errorMessages
+     *         the error messages to write
+     * @param log
+     *         the log to write the messages to
+     */
+    static void replay(final List<String> infoMessages, final List<String> errorMessages, final FilteredLog log) {
+        infoMessages.forEach(message -> log.logInfo("%s", message));
+        errorMessages.forEach(message -> log.logError("%s", message));
+    }
+
+    private final FilteredLog buffer = new FilteredLog(TITLE, Integer.MAX_VALUE);
+
+    /**
+     * Returns the log that buffers the messages. This log should be passed to the reader of the reports.
+     *
+     * @return the log that buffers the messages
+     */
+    FilteredLog getLog() {
+        return buffer;
+    }
+
+    List<String> getInfoMessages() {
+        return buffer.getInfoMessages();
+    }
+
+    /**
+     * Returns the buffered error messages. The title of the buffer is not part of the messages.
+     *
+     * @return the buffered error messages
+     */
+    List<String> getErrorMessages() {
+        return buffer.getErrorMessages().stream()
+                .filter(message -> !TITLE.equals(message))
+                .toList();
+    }
+
+    /**
+     * Writes the buffered messages to the specified log.
+     *
+     * @param log
+     *         the log to write the messages to
+     */
+    void replay(final FilteredLog log) {
+        replay(getInfoMessages(), getErrorMessages(), log);
+    }
+}
@@ -0,0 +1,73 @@
+package edu.hm.hafner.grading;
+
+import edu.hm.hafner.util.Ensure;
+
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Splits a total number of characters across the sections of a Markdown document. Sections that need less than an
+ * equal share of the remaining characters get all the characters they need, the characters they do not use are shared
+ * by the other sections. If several sections need more than their share, then they get the same number of characters,
+ * the characters that cannot be shared equally are given to the sections with the highest priority.
+ *
+ * @author Ullrich Hafner
+ */
+final class MarkdownBudget {
+    /** The maximum size of the Markdown text of a GitHub check or comment. */
+    static final int GITHUB_MAX_SIZE = 65_535;
+
+    private final int totalSize;
+
+    /**
+     * Creates a new budget with the specified total number of characters.
+     *
+     * @param totalSize
+     *         the total number of characters that can be split across the sections
+     */
+    MarkdownBudget(final int totalSize) {
+        Ensure.that(totalSize >= 0).isTrue("The total size must not be negative: %d", totalSize);
+
+        this.totalSize = totalSize;
+    }
+
+    /**
+     * Allocates the characters of this budget to the sections with the specified needs.
+     *
+     * @param needs
+     *         the number of characters each section needs, ordered by priority (the highest priority first)
+     *
+     * @return the number of characters allocated to each section, in the order of the specified needs
+     */
+    int[] allocate(final int... needs) {
+        var allocations = new int[needs.length];
+        var remaining = totalSize;
+
+        // visit the sections with the smallest needs first, the order of sections with the same need is kept
+        var smallestFirst = IntStream.range(0, needs.length).boxed()
+                .sorted(Comparator.comparingInt(index -> needs[index]))
+                .mapToInt(Integer::intValue).toArray();
+        for (int i = 0; i < smallestFirst.length; i++) {
+            var share = remaining / (smallestFirst.length - i);
+            var section = smallestFirst[i];
+            if (needs[section] > share) { // this and all remaining sections need more than an equal share
+                for (int j = i; j < smallestFirst.length; j++) {
+                    allocations[smallestFirst[j]] = share;
+                }
+                remaining -= share * (smallestFirst.length - i);
+                break;
+            }
+            allocations[section] = needs[section];
+            remaining -= needs[section];
+        }
+
+        for (int section = 0; section < needs.length && remaining > 0; section++) {
+            var extra = Math.min(needs[section] - allocations[section], remaining);
+            if (extra > 0) {
+                allocations[section] += extra;
+                remaining -= extra;
+            }
+        }
+        return allocations;
+    }
+}
@@ -33,7 +33,7 @@ public class MetricMarkdown extends ScoreMarkdown<MetricScore, MetricConfigurati
     }
 
     @Override
-    String createSpecificDetails(final List<MetricScore> scores) {
+    String createSpecificDetails(final List<MetricScore> scores, final int maxSize) {
         var details = new TruncatedStringBuilder();
         for (MetricScore score : scores) {
             details.addText(getTitle(score, 2))
@@ -47,7 +47,7 @@ public class MetricMarkdown extends ScoreMarkdown<MetricScore, MetricConfigurati
 
             details.addNewline();
         }
-        return details.build().buildByChars(MARKDOWN_MAX_SIZE);
+        return details.build().buildByChars(maxSize);
     }
 
     private String createMetricRow(final MetricScore score) {
@@ -64,7 +64,7 @@ public final class MetricScore extends Score<MetricScore, MetricConfiguration> {
     }
 
     /**
-     * Restore an empty report after deserialization.
+     * Restore an empty report after deserialization and compute the derived values if they have not been stored.
      *
      * @return this
      */
@@ -72,6 +72,8 @@ public final class MetricScore extends Score<MetricScore, MetricConfiguration> {
     private Object readResolve() {
         report = new ModuleNode("empty");
 
+        freezeIfRequired();
+
         return this;
     }
 
@@ -104,7 +106,7 @@ public final class MetricScore extends Score<MetricScore, MetricConfiguration> {
     }
 
     @Override
-    public int getImpact() {
+    protected int computeImpact() {
         return 0;
     }
 
@@ -154,13 +156,17 @@ public final class MetricScore extends Score<MetricScore, MetricConfiguration> {
             super(deltaReportsPath);
         }
 
+        MetricScoreBuilder(final ReferenceResults referenceResults) {
+            super(referenceResults);
+        }
+
         @Override
-        MetricScore aggregate(final List<MetricScore> scores) {
+        MetricScore createAggregation(final List<MetricScore> scores) {
             return new MetricScore(getTopLevelName(), getIcon(), getScope(), getConfiguration(), scores);
         }
 
         @Override
-        MetricScore build() {
+        MetricScore createScore() {
             return new MetricScore(getName(), getIcon(), getScope(), getConfiguration(), getNode(), getMetric());
         }
 
@@ -12,13 +12,15 @@ import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 
 /**
- * Provides statistics about metrics.
+ * Provides statistics about metrics. A statistic is either a {@link Value} of a coverage metric or a plain count that
+ * has no corresponding metric, e.g., the number of coverage regressions.
  *
  * @author Ullrich Hafner
  * @author Jannik Ohme
  */
 public class MetricStatistics {
     private final Map<Scope, Map<String, Value>> valuesOfScope = new EnumMap<>(Scope.class);
+    private final Map<Scope, Map<String, Integer>> countsOfScope = new EnumMap<>(Scope.class);
 
     /**
      * Adds the specified metric value.
@@ -89,6 +91,28 @@ public class MetricStatistics {
         return this;
     }
 
+    /**
+     * Adds the specified count. Counts are plain integers that have no corresponding coverage metric.
+     *
+     * @param count
+     *         the count to add
+     * @param scope
+     *        the scope of the count
+     * @param id
+     *         the metric id
+     *
+     * @return this statistics object
+     */
+    @CanIgnoreReturnValue
+    public MetricStatistics add(final int count, final Scope scope, final String id) {
+        if (hasValue(id, scope)) {
+            throw new IllegalArgumentException("Metric " + id + " is already present");
+        }
+        getCounts(scope).put(id, count);
+
+        return this;
+    }
+
     /**
      * Returns the metric value as double value.
      * The scope is set to default {@link Scope#PROJECT}.
@@ -117,6 +141,10 @@ public class MetricStatistics {
      *         if the metric is not available
      */
     public double asDouble(final String id, final Scope scope) {
+        var count = getCounts(scope).get(id);
+        if (count != null) {
+            return count;
+        }
         return getValue(id, scope).asDouble();
     }
 
@@ -152,6 +180,10 @@ public class MetricStatistics {
      *         if the metric is not available
      */
     public String asText(final String id, final Locale locale, final Scope scope) {
+        var count = getCounts(scope).get(id);
+        if (count != null) {
+            return String.format(locale, "%d", count);
+        }
         return getValue(id, scope).asText(locale);
     }
 
@@ -172,9 +204,11 @@ public class MetricStatistics {
      * @return the metric values
      */
     public Map<String, Double> asMap(final Scope scope) {
-        return getValues(scope).entrySet().stream()
+        var map = getValues(scope).entrySet().stream()
                 .collect(Collectors.toMap(Map.Entry::getKey,
                         entry -> entry.getValue().asRounded()));
+        getCounts(scope).forEach((id, count) -> map.put(id, count.doubleValue()));
+        return map;
     }
 
     /**
@@ -186,15 +220,21 @@ public class MetricStatistics {
      * @return the metric values
      */
     public Map<String, String> asFormattedMap(final Scope scope) {
-        return getValues(scope).entrySet().stream()
+        var map = getValues(scope).entrySet().stream()
                 .collect(Collectors.toMap(Map.Entry::getKey,
                         entry -> entry.getValue().asRoundedText(Locale.ENGLISH)));
+        getCounts(scope).forEach((id, count) -> map.put(id, String.valueOf(count)));
+        return map;
     }
 
     private Map<String, Value> getValues(final Scope scope) {
         return valuesOfScope.computeIfAbsent(scope, b -> new HashMap<>());
     }
 
+    private Map<String, Integer> getCounts(final Scope scope) {
+        return countsOfScope.computeIfAbsent(scope, b -> new HashMap<>());
+    }
+
     /**
      * Returns the metric value as a text.
      * The scope is set to default {@link Scope#PROJECT}.
@@ -224,11 +264,11 @@ public class MetricStatistics {
      */
 
     public boolean hasValue(final String id, final Scope scope) {
-        return getValues(scope).containsKey(id);
+        return getValues(scope).containsKey(id) || getCounts(scope).containsKey(id);
     }
 
     @Override
     public String toString() {
-        return valuesOfScope.toString();
+        return valuesOfScope + " " + countsOfScope;
     }
 }
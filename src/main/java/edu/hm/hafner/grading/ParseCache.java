@@ -0,0 +1,177 @@
+package edu.hm.hafner.grading;
+
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caches the parsed reports of a grading run. A report file is often graded several times, e.g., once with the scope
+ * {@link Scope#PROJECT} and once with the scope {@link Scope#MODIFIED_LINES}. Since the results of the parsers are
+ * independent of the scope, each report file is parsed only once and the narrower scopes are derived from the cached
+ * results in memory. The reports are stored by the {@link ReportFingerprints fingerprint} of the report files, so
+ * identical reports that have been copied to different locations are parsed only once as well. The fingerprints are
+ * memoized for the lifetime of the cache, i.e., the grading run.
+ *
+ * <p>
+ * Static analysis reports are cached for each report file. Cached {@link Report} instances are shared, use
+ * {@link #copy(Report)} before marking the issues in the modified code. Coverage trees are not cached for each report
+ * file: the trees of the report files of a tool are folded into a single tree, and only this aggregation is cached, see
+ * {@link #getAggregation(String, Supplier)}. The cache is thread-safe, so the report files of a tool can be parsed
+ * concurrently.
+ * </p>
+ *
+ * <p>
+ * Files that are not yet part of this cache are obtained from the {@link SharedParseCache} that stores the results of
+ * previous grading runs of the JVM.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+final class ParseCache {
+    private final Map<String, Report> reports = new ConcurrentHashMap<>();
+    private final Map<String, Object> aggregations = new ConcurrentHashMap<>();
+    private final ReportFingerprints fingerprints = new ReportFingerprints();
+    private final SharedParseCache sharedCache;
+
+    /**
+     * Creates a new cache that uses the {@link SharedParseCache#getInstance() shared cache} of the JVM.
+     */
+    ParseCache() {
+        this(SharedParseCache.getInstance());
+    }
+
+    /**
+     * Creates a new cache that uses the specified shared cache.
+     *
+     * @param sharedCache
+     *         the cache that stores the results of previous grading runs
+     */
+    ParseCache(final SharedParseCache sharedCache) {
+        this.sharedCache = sharedCache;
+    }
+
+    /**
+     * Returns the static analysis report of the specified file. If a file with the same content has not been parsed
+     * yet, the specified parser is invoked and the result is stored in the cache. The returned report is shared and
+     * must not be modified.
+     *
+     * @param parserId
+     *         the ID of the parser
+     * @param file
+     *         the report file
+     * @param parser
+     *         the parser to invoke if the report is not yet in the cache
+     *
+     * @return the parsed report
+     */
+    Report getReport(final String parserId, final Path file, final Function<Path, Report> parser) {
+        return getOrParse(reports, createKey(parserId, file),
+                () -> sharedCache.getReport(parserId, file, fingerprints, parser));
+    }
+
+    /**
+     * Returns the static analysis report of the specified file without storing it in this cache. The report is obtained
+     * from the {@link SharedParseCache} or parsed by the specified parser. Use this method if only some issues of the
+     * report will be retained, so the complete report is not kept until the grading run has been finished.
+     *
+     * @param parserId
+     *         the ID of the parser
+     * @param file
+     *         the report file
+     * @param parser
+     *         the parser to invoke if the report is not yet in the shared cache
+     *
+     * @return the parsed report, can be modified by the caller
+     */
+    Report parseReport(final String parserId, final Path file, final Function<Path, Report> parser) {
+        return sharedCache.getReport(parserId, file, fingerprints, parser);
+    }
+
+    /**
+     * Returns the coverage tree of the specified file. The tree is not stored in this cache, it is obtained from the
+     * {@link SharedParseCache} or parsed by the specified parser. The returned instance also contains the log messages
+     * of the parser, so the log is the same for cached and parsed trees.
+     *
+     * @param parserId
+     *         the ID of the parser
+     * @param file
+     *         the report file
+     * @param parser
+     *         the parser to invoke if the tree is not yet in the shared cache
+     *
+     * @return the parsed tree, can be modified by the caller
+     */
+    ParsedNode getNode(final String parserId, final Path file, final Function<Path, ParsedNode> parser) {
+        return sharedCache.getNode(parserId, file, fingerprints, parser);
+    }
+
+    /**
+     * Returns the aggregated result of several report files. If there is no such result yet, the specified aggregator
+     * is invoked and the result is stored in the cache. The returned result is shared and must not be modified.
+     *
+     * @param key
+     *         the key of the aggregation, must contain the locations of all aggregated report files
+     * @param aggregator
+     *         the aggregator to invoke if the result is not yet in the cache
+     * @param <T>
+     *         the type of the aggregated result
+     *
+     * @return the aggregated result
+     */
+    @SuppressWarnings("unchecked")
+    <T> T getAggregation(final String key, final Supplier<T> aggregator) {
+        return (T) getOrParse(aggregations, key, aggregator::get);
+    }
+
+    /**
+     * Returns the cached result for the specified key. If there is no such result yet, then the parser is invoked
+     * without holding a lock so that other report files can be parsed concurrently. If two threads parse the same file
+     * at the same time, then the result of the first thread wins.
+     */
+    private <T> T getOrParse(final Map<String, T> cache, final String key, final Supplier<T> parser) {
+        var cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        var parsed = parser.get();
+        return Objects.requireNonNullElse(cache.putIfAbsent(key, parsed), parsed);
+    }
+
+    /**
+     * Creates a copy of the specified report that contains copies of all issues. The issues of the copy can be marked
+     * as part of the modified code without affecting the cached report.
+     *
+     * @param report
+     *         the report to copy
+     *
+     * @return the copy
+     */
+    static Report copy(final Report report) {
+        var copy = report.copyEmptyInstance();
+        try (var builder = new IssueBuilder()) {
+            report.stream().map(issue -> builder.copy(issue).buildAndClean()).forEach(copy::add);
+        }
+        return copy;
+    }
+
+    /**
+     * Creates the key of the specified file. The key contains the fingerprint of the content, so files with the same
+     * content share the same key. If the file cannot be read, then the location of the file is used, the parser will
+     * report the problem.
+     */
+    private String createKey(final String parserId, final Path file) {
+        try {
+            return parserId + "@" + fingerprints.getFingerprint(file);
+        }
+        catch (IOException exception) {
+            return parserId + "@" + file.toUri().normalize();
+        }
+    }
+}
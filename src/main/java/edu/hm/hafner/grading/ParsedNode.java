@@ -0,0 +1,67 @@
+package edu.hm.hafner.grading;
+
+import edu.hm.hafner.coverage.Node;
+import edu.hm.hafner.util.FilteredLog;
+
+import java.util.List;
+
+/**
+ * A coverage tree that has been parsed from a report file, along with the log messages of the parser. The messages are
+ * stored with the tree, so they can be replayed whenever the tree is obtained from a cache.
+ *
+ * @author Ullrich Hafner
+ */
+final class ParsedNode {
+    private final Node node;
+    private final List<String> infoMessages;
+    private final List<String> errorMessages;
+
+    /**
+     * Creates a new instance with the messages of the specified log buffer.
+     *
+     * @param node
+     *         the parsed tree
+     * @param buffer
+     *         the log buffer of the parser
+     */
+    ParsedNode(final Node node, final LogBuffer buffer) {
+        this(node, buffer.getInfoMessages(), buffer.getErrorMessages());
+    }
+
+    private ParsedNode(final Node node, final List<String> infoMessages, final List<String> errorMessages) {
+        this.node = node;
+        this.infoMessages = List.copyOf(infoMessages);
+        this.errorMessages = List.copyOf(errorMessages);
+    }
+
+    Node getNode() {
+        return node;
+    }
+
+    List<String> getInfoMessages() {
+        return infoMessages;
+    }
+
+    List<String> getErrorMessages() {
+        return errorMessages;
+    }
+
+    /**
+     * Returns a copy of this instance that contains a copy of the tree. The copy can be modified by the caller.
+     *
+     * @return the copy
+     */
+    ParsedNode copy() {
+        return new ParsedNode(node.copyTree(), infoMessages, errorMessages);
+    }
+
+    /**
+     * Writes the messages of the parser to the specified log.
+     *
+     * @param log
+     *         the log to write the messages to
+     */
+    void replayLog(final FilteredLog log) {
+        LogBuffer.replay(infoMessages, errorMessages, log);
+    }
+}
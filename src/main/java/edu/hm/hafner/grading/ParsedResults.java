@@ -0,0 +1,238 @@
+package edu.hm.hafner.grading;
+
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.coverage.Node;
+import edu.hm.hafner.util.FilteredLog;
+import edu.hm.hafner.util.Generated;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import static edu.hm.hafner.grading.ScoreBuilder.*;
+
+/**
+ * The parsed results of all tools of a grading configuration. Grading is split into two phases: in the parse phase,
+ * the reports of all tools are read from the file system and stored in this model. In the scoring phase, any
+ * configuration can be applied to these results. Since the scoring phase does not read any reports, a whole course can
+ * be graded again with a new rubric, e.g., with different impacts, in a fraction of the time.
+ *
+ * <p>
+ * The parsed results are serializable, so they can be stored and graded later on. The scoring phase requires
+ * configurations that use the same tools (ID, name, pattern, metric, icon, scope, and source path) as the
+ * configuration of the parse phase.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public final class ParsedResults implements ToolParser, Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final HashMap<ReadRequest, ParsedResult<Report>> reports = new HashMap<>();
+    private final HashMap<ReadRequest, ParsedResult<Node>> nodes = new HashMap<>();
+
+    /**
+     * Reads the reports of all tools of the specified configuration from the workspace.
+     *
+     * @param configuration
+     *         the grading configuration in JSON format
+     * @param workspace
+     *         the workspace that contains the reports
+     * @param log
+     *         the logger to report the progress
+     *
+     * @return the parsed results
+     */
+    public static ParsedResults parse(final String configuration, final Path workspace, final FilteredLog log) {
+        var parsedResults = new ParsedResults();
+        try (var parser = new FileSystemToolParser(workspace, Map.of())) {
+            parsedResults.grade(parsedResults.record(parser), configuration, log);
+        }
+        return parsedResults;
+    }
+
+    /**
+     * Records the results of the specified parser. All reports that the returned parser reads will be stored in this
+     * model.
+     *
+     * @param parser
+     *         the parser that actually reads the reports
+     *
+     * @return a parser that records all results of the specified parser
+     */
+    ToolParser record(final ToolParser parser) {
+        return new RecordingToolParser(this, parser);
+    }
+
+    /**
+     * Grades the parsed results with the specified configuration. The reports are not read again.
+     *
+     * @param configuration
+     *         the grading configuration in JSON format
+     * @param log
+     *         the logger to report the progress
+     *
+     * @return the score
+     * @throws NoSuchElementException
+     *         if the configuration contains a tool that has not been parsed
+     */
+    public AggregatedScore grade(final String configuration, final FilteredLog log) {
+        return grade(this, configuration, log);
+    }
+
+    private AggregatedScore grade(final ToolParser parser, final String configuration, final FilteredLog log) {
+        var score = new AggregatedScore(log);
+
+        score.gradeTests(parser, TestConfiguration.from(configuration), NO_DELTA_REPORTS);
+        score.gradeCoverage(parser, CoverageConfiguration.from(configuration), NO_DELTA_REPORTS);
+        score.gradeAnalysis(parser, AnalysisConfiguration.from(configuration), NO_DELTA_REPORTS);
+        score.gradeMetrics(parser, MetricConfiguration.from(configuration), NO_DELTA_REPORTS);
+
+        return score;
+    }
+
+    @Override
+    public Report readReport(final ToolConfiguration tool, final String directory, final String excluded,
+            final FilteredLog log) {
+        return ParseCache.copy(get(reports, new ReadRequest(tool, directory, excluded), log));
+    }
+
+    @Override
+    public Node readNode(final ToolConfiguration configuration, final String directory, final String excluded,
+            final FilteredLog log) {
+        return get(nodes, new ReadRequest(configuration, directory, excluded), log).copyTree();
+    }
+
+    private <T extends Serializable> T get(final Map<ReadRequest, ParsedResult<T>> results,
+            final ReadRequest request, final FilteredLog log) {
+        var result = results.get(request);
+        if (result == null) {
+            throw new NoSuchElementException("No parsed results available for " + request);
+        }
+        return result.replay(log);
+    }
+
+    private <T extends Serializable> T record(final Map<ReadRequest, ParsedResult<T>> results,
+            final ReadRequest request, final FilteredLog log, final Reader<T> reader) {
+        var buffer = new LogBuffer();
+        var result = reader.read(buffer.getLog());
+        var parsed = new ParsedResult<>(result, buffer.getInfoMessages(), buffer.getErrorMessages());
+        results.put(request, parsed);
+        return parsed.replay(log);
+    }
+
+    /**
+     * The arguments of a read request of a {@link ToolParser}.
+     */
+    private static final class ReadRequest implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final ToolConfiguration tool;
+        private final String directory;
+        private final String excluded;
+
+        ReadRequest(final ToolConfiguration tool, final String directory, final String excluded) {
+            this.tool = tool;
+            this.directory = directory;
+            this.excluded = excluded;
+        }
+
+        @Override
+        @Generated
+        public boolean equals(final Object o) {
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var that = (ReadRequest) o;
+            return Objects.equals(tool, that.tool)
+                    && Objects.equals(directory, that.directory)
+                    && Objects.equals(excluded, that.excluded);
+        }
+
+        @Override
+        @Generated
+        public int hashCode() {
+            return Objects.hash(tool, directory, excluded);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ENGLISH, "tool '%s' with pattern '%s' in folder '%s'",
+                    tool.getId(), tool.getPattern(), directory);
+        }
+    }
+
+    /**
+     * The result of a read request, along with the log messages that have been reported while reading.
+     *
+     * @param <T>
+     *         the type of the result
+     */
+    private static final class ParsedResult<T extends Serializable> implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final T result;
+        private final ArrayList<String> infoMessages;
+        private final ArrayList<String> errorMessages;
+
+        ParsedResult(final T result, final List<String> infoMessages, final List<String> errorMessages) {
+            this.result = result;
+            this.infoMessages = new ArrayList<>(infoMessages);
+            this.errorMessages = new ArrayList<>(errorMessages);
+        }
+
+        T replay(final FilteredLog log) {
+            LogBuffer.replay(infoMessages, errorMessages, log);
+
+            return result;
+        }
+    }
+
+    /**
+     * A {@link ToolParser} that records the results and log messages of another parser.
+     */
+    private static final class RecordingToolParser implements ToolParser {
+        private final ParsedResults results;
+        private final ToolParser parser;
+
+        RecordingToolParser(final ParsedResults results, final ToolParser parser) {
+            this.results = results;
+            this.parser = parser;
+        }
+
+        @Override
+        public Report readReport(final ToolConfiguration tool, final String directory, final String excluded,
+                final FilteredLog log) {
+            return ParseCache.copy(results.record(results.reports, new ReadRequest(tool, directory, excluded), log,
+                    buffer -> parser.readReport(tool, directory, excluded, buffer)));
+        }
+
+        @Override
+        public Node readNode(final ToolConfiguration configuration, final String directory, final String excluded,
+                final FilteredLog log) {
+            return results.record(results.nodes, new ReadRequest(configuration, directory, excluded), log,
+                    buffer -> parser.readNode(configuration, directory, excluded, buffer)).copyTree();
+        }
+    }
+
+    /**
+     * Reads a result and reports the progress to the specified log.
+     *
+     * @param <T>
+     *         the type of the result
+     */
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(FilteredLog log);
+    }
+}
@@ -0,0 +1,79 @@
+package edu.hm.hafner.grading;
+
+import edu.hm.hafner.analysis.registry.ParserDescriptor;
+import edu.hm.hafner.analysis.registry.ParserRegistry;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the descriptors of the static analysis parsers by their ID. Creating a {@link ParserRegistry} loads and
+ * instantiates all descriptors of the analysis model. Therefore, the registry is not created when a class of the
+ * autograding model is loaded, but on demand: the first time an ID actually needs to be resolved. The registry is then
+ * shared by all callers in the JVM. Every resolved ID is stored in an index so that subsequent look-ups of the same ID
+ * do not query the registry again.
+ *
+ * @author Ullrich Hafner
+ */
+final class ParserDescriptors {
+    private static final Map<String, Optional<ParserDescriptor>> INDEX = new ConcurrentHashMap<>();
+
+    /**
+     * Returns whether a parser with the specified ID is available.
+     *
+     * @param id
+     *         the ID of the parser
+     *
+     * @return {@code true} if the parser is available, {@code false} otherwise
+     */
+    static boolean contains(final String id) {
+        return find(id).isPresent();
+    }
+
+    /**
+     * Returns the descriptor of the parser with the specified ID.
+     *
+     * @param id
+     *         the ID of the parser
+     *
+     * @return the descriptor
+     * @throws NoSuchElementException
+     *         if there is no such parser
+     */
+    static ParserDescriptor get(final String id) {
+        return find(id).orElseThrow(() -> new NoSuchElementException("No such parser registered: " + id));
+    }
+
+    /**
+     * Finds the descriptor of the parser with the specified ID.
+     *
+     * @param id
+     *         the ID of the parser
+     *
+     * @return the descriptor, or an empty result if there is no such parser
+     */
+    static Optional<ParserDescriptor> find(final String id) {
+        return INDEX.computeIfAbsent(id, ParserDescriptors::lookup);
+    }
+
+    private static Optional<ParserDescriptor> lookup(final String id) {
+        var registry = RegistryHolder.REGISTRY;
+        if (registry.contains(id)) {
+            return Optional.of(registry.get(id));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Creates the registry when it is accessed for the first time.
+     */
+    private static final class RegistryHolder {
+        private static final ParserRegistry REGISTRY = new ParserRegistry();
+    }
+
+    private ParserDescriptors() {
+        // prevents instantiation
+    }
+}
@@ -1,6 +1,5 @@
 package edu.hm.hafner.grading;
 
-import edu.hm.hafner.analysis.registry.ParserRegistry;
 import edu.hm.hafner.coverage.Metric;
 import edu.hm.hafner.util.Generated;
 
@@ -19,7 +18,6 @@ public final class QualityGate implements Serializable {
     @Serial
     private static final long serialVersionUID = 15L;
 
-    private static final ParserRegistry PARSER_REGISTRY = new ParserRegistry();
     private static final String GT = ">=";
     private static final String LT = "<=";
 
@@ -93,18 +91,10 @@ public final class QualityGate implements Serializable {
      * @return true if the value is good (passes the gate), false otherwise
      */
     private boolean isMetricThresholdMet(final double actualValue) {
-        if (PARSER_REGISTRY.contains(metric)) {
-            return actualValue <= threshold; // for static analysis metrics, lower is better
-        }
-
         return isLargerBetter() ? actualValue >= threshold : actualValue <= threshold;
     }
 
     private String getOperatorSymbol() {
-        if (PARSER_REGISTRY.contains(metric)) {
-            return LT;
-        }
-
         return isLargerBetter() ? GT : LT;
     }
 
@@ -121,6 +111,11 @@ public final class QualityGate implements Serializable {
         return String.format(Locale.ENGLISH, "%s: **%.2f** %s %.2f", name, actualValue, getOperatorSymbol(), threshold);
     }
 
+    /**
+     * Determines the tendency of the metric. Only the names of the coverage and test metrics are known, all other
+     * metrics (e.g., the number of issues of a static analysis tool) are better if they are smaller. So the parser
+     * registry of the static analysis tools is not required to evaluate a quality gate.
+     */
     private boolean isLargerBetter() {
         if (metric.contains("-rate")) {
             return true; // Rates are always larger is better
@@ -130,7 +125,7 @@ public final class QualityGate implements Serializable {
             return modelMetric.getTendency() == Metric.MetricTendency.LARGER_IS_BETTER;
         }
         catch (IllegalArgumentException e) {
-            // If the metric is not recognized, default to smaller is better
+            // If the metric is not recognized (e.g., static analysis tools), default to smaller is better
             return false;
         }
     }
@@ -4,7 +4,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
-import edu.hm.hafner.analysis.registry.ParserRegistry;
+import edu.hm.hafner.analysis.registry.ParserDescriptor;
 import edu.hm.hafner.coverage.Metric;
 import edu.hm.hafner.util.FilteredLog;
 
@@ -25,8 +25,6 @@ import static edu.hm.hafner.grading.Configuration.*;
 public final class QualityGatesConfiguration {
     private static final String QUALITY_GATES_ID = "qualityGates";
 
-    private static final ParserRegistry PARSER_REGISTRY = new ParserRegistry();
-
     /**
      * Converts the specified JSON object to a list of {@link QualityGate} instances.
      *
@@ -129,16 +127,12 @@ public final class QualityGatesConfiguration {
         }
 
         private String detectMetricName() {
-            if (PARSER_REGISTRY.contains(metric)) {
-                return PARSER_REGISTRY.get(metric).getName();
-            }
-
             try {
                 return Metric.fromName(metric).getDisplayName();
             }
             catch (IllegalArgumentException e) {
-                // If a metric is not recognized, use the metric value as the display name
-                return metric;
+                // Only unknown metrics might be static analysis tools, otherwise use the metric value as display name
+                return ParserDescriptors.find(metric).map(ParserDescriptor::getName).orElse(metric);
             }
         }
 
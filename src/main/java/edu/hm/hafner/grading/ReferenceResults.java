@@ -0,0 +1,167 @@
+package edu.hm.hafner.grading;
+
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.coverage.Node;
+import edu.hm.hafner.util.FilteredLog;
+import edu.hm.hafner.util.Generated;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static edu.hm.hafner.grading.ScoreBuilder.*;
+
+/**
+ * Provides the reference results of a previous pipeline run that are used to compute the deltas of the scores. The
+ * same tool is often graded several times in a run, e.g., when several rubrics are graded against a single parse.
+ * Therefore, the reference results are read only once per grading run from the delta directory and are indexed by the
+ * ID of the parser, the pattern of the report files, and the delta directory. The other properties of a tool (e.g., the
+ * metric, the timeout, or the retention policy) do not change the reference results that are used for the delta: the
+ * reference results are read only for the scope {@link Scope#PROJECT}, and the scores extract the values of their
+ * metric from the whole reference tree. So the line and branch coverage of a JaCoCo report share the same reference
+ * tree, and the delta directory is searched only once for both tools.
+ *
+ * <p>
+ * Scores attach the reference trees to other trees, so the cached results are never handed out: each call returns a
+ * copy of the cached result. The results are stored in concurrent maps, so the scores of a run can be built
+ * concurrently.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+final class ReferenceResults {
+    private final String directory;
+
+    private final Map<ResultKey, Report> reports = new ConcurrentHashMap<>();
+    private final Map<ResultKey, Node> nodes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new provider for the reference results in the specified directory.
+     *
+     * @param directory
+     *         the directory that contains the reference reports, or {@link ScoreBuilder#NO_DELTA_REPORTS} if there are
+     *         no reference reports
+     */
+    ReferenceResults(final String directory) {
+        this.directory = directory;
+    }
+
+    String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns whether reference reports are available.
+     *
+     * @return {@code true} if there is a directory with reference reports, {@code false} otherwise
+     */
+    boolean isAvailable() {
+        return !NO_DELTA_REPORTS.equals(directory);
+    }
+
+    /**
+     * Returns the static analysis reference report for the specified tool. The report is read only once for all tools
+     * with the same parser and pattern.
+     *
+     * @param parser
+     *         the parser to read the report with
+     * @param tool
+     *         the tool to get the report for
+     * @param log
+     *         the logger to report the progress
+     *
+     * @return a copy of the reference report
+     */
+    Report getReport(final ToolParser parser, final ToolConfiguration tool, final FilteredLog log) {
+        return ParseCache.copy(
+                get(reports, parser, tool, log, () -> parser.readReport(tool, directory, NO_DELTA_REPORTS, log)));
+    }
+
+    /**
+     * Returns the coverage or test reference tree for the specified tool. The tree is read only once for all tools
+     * with the same parser and pattern.
+     *
+     * @param parser
+     *         the parser to read the tree with
+     * @param tool
+     *         the tool to get the tree for
+     * @param log
+     *         the logger to report the progress
+     *
+     * @return a copy of the reference tree
+     */
+    Node getNode(final ToolParser parser, final ToolConfiguration tool, final FilteredLog log) {
+        return get(nodes, parser, tool, log, () -> parser.readNode(tool, directory, NO_DELTA_REPORTS, log))
+                .copyTree();
+    }
+
+    /**
+     * Returns the cached result for the specified tool. If there is no such result yet, then the reader is invoked
+     * without holding a lock. If two threads read the same result at the same time, then the result of the first
+     * thread wins.
+     */
+    private <T> T get(final Map<ResultKey, T> results, final ToolParser parser, final ToolConfiguration tool,
+            final FilteredLog log, final Supplier<T> reader) {
+        var actualParser = DeadlineToolParser.unwrap(parser);
+        var key = new ResultKey(actualParser, tool.getId(), tool.getPattern(), directory);
+        removeResultsOfOtherParsers(actualParser);
+
+        var cached = results.get(key);
+        if (cached != null) {
+            log.logInfo("Reusing reference results of '%s' for pattern '%s'", tool.getId(), tool.getPattern());
+            return cached;
+        }
+        var result = reader.get();
+        return Objects.requireNonNullElse(results.putIfAbsent(key, result), result);
+    }
+
+    /**
+     * Removes the results of other parsers: these results are not comparable, and they are not needed anymore.
+     */
+    private void removeResultsOfOtherParsers(final ToolParser parser) {
+        reports.keySet().removeIf(key -> key.getParser() != parser);
+        nodes.keySet().removeIf(key -> key.getParser() != parser);
+    }
+
+    /**
+     * The key of a reference result. The parser is compared by identity, since the results of different parsers are
+     * not comparable.
+     */
+    private static final class ResultKey {
+        private final ToolParser parser;
+        private final String parserId;
+        private final String pattern;
+        private final String directory;
+
+        ResultKey(final ToolParser parser, final String parserId, final String pattern, final String directory) {
+            this.parser = parser;
+            this.parserId = parserId;
+            this.pattern = pattern;
+            this.directory = directory;
+        }
+
+        ToolParser getParser() {
+            return parser;
+        }
+
+        @Override
+        @Generated
+        public boolean equals(final Object o) {
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var that = (ResultKey) o;
+            return parser == that.parser
+                    && parserId.equals(that.parserId)
+                    && pattern.equals(that.pattern)
+                    && directory.equals(that.directory);
+        }
+
+        @Override
+        @Generated
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(parser), parserId, pattern, directory);
+        }
+    }
+}
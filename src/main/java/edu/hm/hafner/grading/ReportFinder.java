@@ -1,12 +1,14 @@
 package edu.hm.hafner.grading;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Strings;
 
 import edu.hm.hafner.util.FilteredLog;
 import edu.hm.hafner.util.VisibleForTesting;
 import edu.umd.cs.findbugs.annotations.NonNull;
 
 import java.io.IOException;
+import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
@@ -14,18 +16,50 @@ import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static edu.hm.hafner.grading.ScoreBuilder.*;
 
 /**
  * Base class that finds files in the workspace.
  *
+ * <p>
+ * The directory to search in may also be a zip archive: then the files are searched in the archive using the zip file
+ * system of the JDK, the archive is not extracted. The archives remain open so that the found files can be read later
+ * on, until the finder is closed. Concurrent grading runs share the open archives: an archive is closed when the last
+ * finder that uses it has been closed. If an archive is modified on disk, then subsequent finders open a new file
+ * system for the archive, the finders that still use the previous file system are not affected. Report files that are
+ * compressed with gzip match a pattern if the file name without the suffix {@code .gz} matches.
+ * </p>
+ *
  * @author Ullrich Hafner
  */
-class ReportFinder {
+class ReportFinder implements AutoCloseable {
+    private static final Set<String> ARCHIVE_SUFFIXES = Set.of(".zip", ".jar");
+    private static final Map<Path, OpenArchive> ARCHIVES = new HashMap<>(); // guarded by ARCHIVES
+
+    private final Map<Path, OpenArchive> usedArchives = new HashMap<>(); // guarded by this
+
+    /**
+     * Returns whether the specified file is part of an archive.
+     *
+     * @param file
+     *         the file to check
+     *
+     * @return {@code true} if the file is stored in an archive, {@code false} if the file is stored in the default
+     *         file system
+     */
+    static boolean isArchived(final Path file) {
+        return !FileSystems.getDefault().equals(file.getFileSystem());
+    }
+
     List<Path> find(final FilteredLog log, final String displayName, final String pattern,
             final String directory, final String excludedDirectory) {
         log.logInfo("Searching for %s results in folder '%s' matching file name pattern '%s'%s",
@@ -52,8 +86,16 @@ class ReportFinder {
     List<Path> findGlob(final String pattern, final String directory, final String excludedDirectory,
             final FilteredLog log) {
         try {
-            var visitor = new PathMatcherFileVisitor(pattern, excludedDirectory);
-            Files.walkFileTree(Path.of(directory), visitor);
+            var start = Path.of(directory);
+            var excluded = getExcludedDirectory(excludedDirectory);
+            if (isArchive(start)) {
+                var archive = start.toAbsolutePath().normalize();
+                var root = openArchive(archive);
+                excluded = excluded.map(path -> resolveInArchive(path, archive, root, excludedDirectory));
+                start = root;
+            }
+            var visitor = new PathMatcherFileVisitor(pattern, excluded, start);
+            Files.walkFileTree(start, visitor);
             return visitor.getMatches();
         }
         catch (IOException exception) {
@@ -63,17 +105,125 @@ class ReportFinder {
         }
     }
 
+    private Optional<Path> getExcludedDirectory(final String excludedDirectory) {
+        if (excludedDirectory.isBlank() || excludedDirectory.equals(NO_DELTA_REPORTS)) {
+            return Optional.empty();
+        }
+        return Optional.of(Path.of(excludedDirectory).toAbsolutePath().normalize());
+    }
+
+    /**
+     * Maps the excluded directory to the file system of the archive. The excluded directory is either a path within
+     * the archive (e.g., {@code reports.zip/old}) or a path relative to the root of the archive.
+     */
+    private Path resolveInArchive(final Path excluded, final Path archive, final Path root,
+            final String excludedDirectory) {
+        if (excluded.startsWith(archive)) {
+            return root.resolve(archive.relativize(excluded).toString()).normalize();
+        }
+        return root.resolve(excludedDirectory).normalize();
+    }
+
+    private static boolean isArchive(final Path path) {
+        var fileName = path.getFileName();
+        return fileName != null
+                && ARCHIVE_SUFFIXES.stream().anyMatch(suffix -> Strings.CI.endsWith(fileName.toString(), suffix))
+                && Files.isRegularFile(path);
+    }
+
+    /**
+     * Opens the specified archive and returns its root directory. An archive is opened only once for all finders as
+     * long as it has not been modified. A finder uses the same file system of an archive until it is closed.
+     */
+    private synchronized Path openArchive(final Path archive) throws IOException {
+        var path = archive.toAbsolutePath().normalize();
+        var used = usedArchives.get(path);
+        if (used != null) {
+            return used.getRoot();
+        }
+
+        var modified = Files.getLastModifiedTime(path);
+        OpenArchive open;
+        synchronized (ARCHIVES) {
+            open = ARCHIVES.get(path);
+            if (open == null || !open.isValid(modified)) {
+                open = new OpenArchive(path, FileSystems.newFileSystem(path), modified);
+                ARCHIVES.put(path, open); // finders that still use the previous file system will close it
+            }
+            open.acquire();
+        }
+        usedArchives.put(path, open);
+        return open.getRoot();
+    }
+
+    /**
+     * Releases all archives that have been opened by this finder. An archive is closed if no other finder uses it
+     * anymore. The files that have been found in these archives cannot be read afterward.
+     */
+    @Override
+    public synchronized void close() {
+        usedArchives.values().forEach(OpenArchive::release);
+        usedArchives.clear();
+    }
+
+    /**
+     * An archive that has been opened as a file system. The file system is closed when the last finder that uses the
+     * archive has been closed.
+     */
+    private static final class OpenArchive {
+        private final Path path;
+        private final FileSystem fileSystem;
+        private final FileTime modified;
+        private int references; // guarded by ARCHIVES
+
+        OpenArchive(final Path path, final FileSystem fileSystem, final FileTime modified) {
+            this.path = path;
+            this.fileSystem = fileSystem;
+            this.modified = modified;
+        }
+
+        boolean isValid(final FileTime currentModified) {
+            return fileSystem.isOpen() && modified.equals(currentModified);
+        }
+
+        Path getRoot() {
+            return fileSystem.getRootDirectories().iterator().next();
+        }
+
+        void acquire() {
+            references++;
+        }
+
+        void release() {
+            synchronized (ARCHIVES) {
+                references--;
+                if (references > 0) {
+                    return;
+                }
+                ARCHIVES.remove(path, this);
+            }
+            try {
+                fileSystem.close();
+            }
+            catch (IOException ignored) {
+                // the archive is not used anymore, there is nothing to do
+            }
+        }
+    }
+
     private static class PathMatcherFileVisitor extends SimpleFileVisitor<Path> {
         private final PathMatcher pathMatcher;
         private final List<Path> matches = new ArrayList<>();
-        private final String excludeDirectory;
+        private final Optional<Path> excludedDirectory;
+        private final Path start;
 
-        PathMatcherFileVisitor(final String syntaxAndPattern, final String excludeDirectory) {
+        PathMatcherFileVisitor(final String syntaxAndPattern, final Optional<Path> excludedDirectory, final Path start) {
             super();
 
-            this.excludeDirectory = excludeDirectory;
+            this.excludedDirectory = excludedDirectory;
+            this.start = start;
             try {
-                pathMatcher = FileSystems.getDefault().getPathMatcher(syntaxAndPattern);
+                pathMatcher = start.getFileSystem().getPathMatcher(syntaxAndPattern);
             }
             catch (IllegalArgumentException exception) {
                 throw new IllegalArgumentException(
@@ -88,19 +238,37 @@ class ReportFinder {
         @NonNull
         @Override
         public FileVisitResult visitFile(@NonNull final Path path, @NonNull final BasicFileAttributes attrs) {
-            if (pathMatcher.matches(path) && isNotExcluded(path)) {
+            if (isNotExcluded(path) && (matches(path) || matchesUncompressed(path))) {
                 matches.add(path);
             }
             return FileVisitResult.CONTINUE;
         }
 
-        private boolean isNotExcluded(final Path path) {
-            if (excludeDirectory.isBlank() || excludeDirectory.equals(NO_DELTA_REPORTS)) {
+        private boolean matches(final Path path) {
+            if (pathMatcher.matches(path)) {
                 return true;
             }
+            // files in archives are also matched relative to the root of the archive
+            return isArchived(path) && pathMatcher.matches(start.relativize(path));
+        }
 
-            var excluded = Path.of(excludeDirectory).toAbsolutePath().normalize();
-            return !path.toAbsolutePath().normalize().startsWith(excluded);
+        private boolean matchesUncompressed(final Path path) {
+            if (ReportReaderFactory.isCompressed(path)) {
+                var fileName = Strings.CI.removeEnd(path.getFileName().toString(), ReportReaderFactory.GZIP_SUFFIX);
+                return matches(path.resolveSibling(fileName));
+            }
+            return false;
+        }
+
+        private boolean isNotExcluded(final Path path) {
+            return excludedDirectory.map(excluded -> !normalize(path).startsWith(excluded)).orElse(true);
+        }
+
+        private Path normalize(final Path path) {
+            if (isArchived(path)) {
+                return path.normalize(); // paths in archives are already absolute
+            }
+            return path.toAbsolutePath().normalize();
         }
 
         @NonNull
@@ -0,0 +1,208 @@
+package edu.hm.hafner.grading;
+
+import edu.hm.hafner.util.Generated;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Computes fingerprints of report files. A fingerprint identifies the content of a report file: two files with the same
+ * fingerprint have the same content, so the parsed results of one file can be reused for the other file. The
+ * fingerprints are shared by the grading runs of different submissions, so a submission must not be able to craft a
+ * report with the fingerprint of another report. Therefore, the fingerprint consists of the size of the file and a
+ * SHA-256 digest of its content.
+ *
+ * <p>
+ * The file is split into chunks of a fixed size, the digest of the file is the SHA-256 digest of the size of the file
+ * and the digests of all chunks. Large files are memory mapped, the chunks of a file are digested in parallel. Files in
+ * archives cannot be memory mapped, so their chunks are read sequentially.
+ * </p>
+ *
+ * <p>
+ * The fingerprints are memoized by the path of the file for the lifetime of an instance: as long as the size and the
+ * modification time of a file do not change, the file is not read again. Each grading run uses its own instance, see
+ * {@link ParseCache}. The memo is not shared between runs, since paths are reused by other workspaces and the
+ * modification time of a file can be preserved when it is copied. So the fingerprint that is used as key of the
+ * {@link SharedParseCache} is always computed from the actual content of the file.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+final class ReportFingerprints {
+    static final int CHUNK_SIZE = 16 * 1024 * 1024;
+    private static final int MAPPING_THRESHOLD = 64 * 1024;
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private final Map<Path, MemoizedFingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the fingerprint of the specified file.
+     *
+     * @param file
+     *         the file to compute the fingerprint for
+     *
+     * @return the fingerprint
+     * @throws IOException
+     *         if the file cannot be read
+     */
+    Fingerprint getFingerprint(final Path file) throws IOException {
+        var path = file.toAbsolutePath().normalize();
+        var size = Files.size(path);
+        var modified = Files.getLastModifiedTime(path);
+
+        var memoized = fingerprints.get(path);
+        if (memoized != null && memoized.isValid(size, modified)) {
+            return memoized.getFingerprint();
+        }
+
+        var fingerprint = new Fingerprint(size, computeDigest(path, size));
+        fingerprints.put(path, new MemoizedFingerprint(size, modified, fingerprint));
+        return fingerprint;
+    }
+
+    private byte[] computeDigest(final Path file, final long size) throws IOException {
+        if (size < MAPPING_THRESHOLD) {
+            return combine(size, List.of(digest(ByteBuffer.wrap(Files.readAllBytes(file)))));
+        }
+        if (ReportFinder.isArchived(file)) {
+            return computeDigestSequentially(file, size);
+        }
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var chunks = (int) ((size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+            var stream = IntStream.range(0, chunks);
+            if (chunks > 1) {
+                stream = stream.parallel();
+            }
+            return combine(size, stream.mapToObj(chunk -> digestChunk(channel, chunk, size)).toList());
+        }
+        catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * Computes the digest of a file that cannot be memory mapped, e.g. a file in an archive. The chunks are read one
+     * after another, the digest is the same as for a memory mapped file with the same content.
+     */
+    private byte[] computeDigestSequentially(final Path file, final long size) throws IOException {
+        try (var stream = Files.newInputStream(file)) {
+            var chunkDigests = new ArrayList<byte[]>();
+            for (var chunk = stream.readNBytes(CHUNK_SIZE); chunk.length > 0; chunk = stream.readNBytes(CHUNK_SIZE)) {
+                chunkDigests.add(digest(ByteBuffer.wrap(chunk)));
+            }
+            return combine(size, chunkDigests);
+        }
+    }
+
+    private byte[] digestChunk(final FileChannel channel, final int chunk, final long size) {
+        var position = (long) chunk * CHUNK_SIZE;
+        try {
+            return digest(channel.map(MapMode.READ_ONLY, position, Math.min(CHUNK_SIZE, size - position)));
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static byte[] digest(final ByteBuffer buffer) {
+        var digest = createDigest();
+        digest.update(buffer);
+        return digest.digest();
+    }
+
+    private static byte[] combine(final long size, final List<byte[]> chunkDigests) {
+        var digest = createDigest();
+        digest.update(ByteBuffer.allocate(Long.BYTES).putLong(size).flip());
+        chunkDigests.forEach(digest::update);
+        return digest.digest();
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        }
+        catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("Every Java platform must support " + ALGORITHM, exception);
+        }
+    }
+
+    /**
+     * The fingerprint of the content of a report file.
+     */
+    static final class Fingerprint {
+        private final long size;
+        private final byte[] digest;
+
+        Fingerprint(final long size, final byte[] digest) {
+            this.size = size;
+            this.digest = digest.clone();
+        }
+
+        long getSize() {
+            return size;
+        }
+
+        @Override
+        @Generated
+        public boolean equals(final Object o) {
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var that = (Fingerprint) o;
+            return size == that.size && Arrays.equals(digest, that.digest);
+        }
+
+        @Override
+        @Generated
+        public int hashCode() {
+            return 31 * Long.hashCode(size) + Arrays.hashCode(digest);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ENGLISH, "%d:%s", size, HexFormat.of().formatHex(digest));
+        }
+    }
+
+    /**
+     * A fingerprint along with the attributes of the file at the time the fingerprint has been computed.
+     */
+    private static final class MemoizedFingerprint {
+        private final long size;
+        private final FileTime modified;
+        private final Fingerprint fingerprint;
+
+        MemoizedFingerprint(final long size, final FileTime modified, final Fingerprint fingerprint) {
+            this.size = size;
+            this.modified = modified;
+            this.fingerprint = fingerprint;
+        }
+
+        boolean isValid(final long currentSize, final FileTime currentModified) {
+            return size == currentSize && modified.equals(currentModified);
+        }
+
+        Fingerprint getFingerprint() {
+            return fingerprint;
+        }
+    }
+}
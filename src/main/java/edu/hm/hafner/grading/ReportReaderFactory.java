@@ -0,0 +1,136 @@
+package edu.hm.hafner.grading;
+
+import org.apache.commons.lang3.Strings;
+
+import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Provides readers for report files that are compressed with gzip. The content of such a report is decompressed while
+ * it is read, the report is never extracted. The charset of a compressed report is detected in the same way as
+ * {@link FileReaderFactory} does for uncompressed reports: a byte order mark or the encoding of the XML declaration
+ * is used, otherwise the report is read with UTF-8.
+ *
+ * @author Ullrich Hafner
+ */
+final class ReportReaderFactory extends ReaderFactory {
+    static final String GZIP_SUFFIX = ".gz";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int PROLOG_SIZE = 1024;
+    private static final Pattern XML_ENCODING = Pattern.compile("^<\\?xml[^>]*encoding=[\"']([\\w.:-]+)[\"']");
+
+    /**
+     * Creates a reader factory for the specified report file. Reports that are compressed with gzip are decompressed
+     * on the fly, all other reports are read as is.
+     *
+     * @param file
+     *         the report file
+     *
+     * @return the reader factory
+     */
+    static ReaderFactory create(final Path file) {
+        if (isCompressed(file)) {
+            return new ReportReaderFactory(file);
+        }
+        return new FileReaderFactory(file);
+    }
+
+    /**
+     * Returns whether the specified file is compressed with gzip.
+     *
+     * @param file
+     *         the file to check
+     *
+     * @return {@code true} if the file is compressed, {@code false} otherwise
+     */
+    static boolean isCompressed(final Path file) {
+        var fileName = file.getFileName();
+        return fileName != null && Strings.CI.endsWith(fileName.toString(), GZIP_SUFFIX);
+    }
+
+    /**
+     * Detects the charset of the specified compressed report. The first bytes of the decompressed content are
+     * inspected for a byte order mark or an XML declaration with an encoding.
+     *
+     * @param file
+     *         the compressed report file
+     *
+     * @return the detected charset, or UTF-8 if no charset has been found
+     */
+    static Charset detectCharset(final Path file) {
+        try (var stream = open(file)) {
+            var prolog = stream.readNBytes(PROLOG_SIZE);
+            if (startsWith(prolog, 0xEF, 0xBB, 0xBF)) {
+                return StandardCharsets.UTF_8;
+            }
+            if (startsWith(prolog, 0xFE, 0xFF)) {
+                return StandardCharsets.UTF_16BE;
+            }
+            if (startsWith(prolog, 0xFF, 0xFE)) {
+                return StandardCharsets.UTF_16LE;
+            }
+            var matcher = XML_ENCODING.matcher(new String(prolog, StandardCharsets.ISO_8859_1));
+            if (matcher.find()) {
+                return Charset.forName(matcher.group(1));
+            }
+        }
+        catch (IOException | IllegalCharsetNameException | UnsupportedCharsetException ignored) {
+            // fall back to the default charset, the parser will report a broken file
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private static boolean startsWith(final byte[] content, final int... prefix) {
+        if (content.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if ((content[i] & 0xFF) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static InputStream open(final Path file) throws IOException {
+        return new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file)), BUFFER_SIZE);
+    }
+
+    private final Path file;
+
+    private ReportReaderFactory(final Path file) {
+        super(detectCharset(file));
+
+        this.file = file;
+    }
+
+    @Override
+    public String getFileName() {
+        return file.toString();
+    }
+
+    @Override
+    public Reader create() {
+        try {
+            return new InputStreamReader(open(file), getCharset());
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+}
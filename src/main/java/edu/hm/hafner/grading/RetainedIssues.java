@@ -0,0 +1,129 @@
+package edu.hm.hafner.grading;
+
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import static edu.hm.hafner.analysis.Severity.*;
+
+/**
+ * The issues of a static analysis tool that are retained according to an {@link IssueRetention retention policy},
+ * along with the number of all issues per severity. The reports of the individual report files are folded into this
+ * instance one after another: the issues of each report are counted before the surplus issues are discarded. So the
+ * complete reports do not need to be kept until all report files of a tool have been read.
+ *
+ * @author Ullrich Hafner
+ */
+final class RetainedIssues {
+    /**
+     * Retains the issues of the specified report according to the specified retention policy.
+     *
+     * @param report
+     *         the report with all issues
+     * @param retention
+     *         the retention policy
+     * @param maxIssues
+     *         the maximum number of issues outside the modified code to retain for {@link IssueRetention#MODIFIED}
+     *
+     * @return the retained issues
+     */
+    static RetainedIssues retain(final Report report, final IssueRetention retention, final int maxIssues) {
+        var issues = new RetainedIssues(retention.retain(report, maxIssues), retention, maxIssues);
+        issues.count(report);
+        return issues;
+    }
+
+    private final Report report;
+    private final IssueRetention retention;
+    private final int maxIssues;
+    @CheckForNull
+    private Report retained;
+
+    private int errorSize;
+    private int highSeveritySize;
+    private int normalSeveritySize;
+    private int lowSeveritySize;
+
+    /**
+     * Creates a new instance that folds the issues of several reports into the specified report.
+     *
+     * @param total
+     *         the empty report that collects the retained issues
+     * @param retention
+     *         the retention policy
+     * @param maxIssues
+     *         the maximum number of issues outside the modified code to retain for {@link IssueRetention#MODIFIED}
+     */
+    RetainedIssues(final Report total, final IssueRetention retention, final int maxIssues) {
+        this.report = total;
+        this.retention = retention;
+        this.maxIssues = maxIssues;
+    }
+
+    /**
+     * Counts the issues of the specified report and adds the issues that should be retained. Since every report retains
+     * at most the maximum number of issues outside the modified code, the issues of all reports are bounded as well.
+     *
+     * @param issues
+     *         the report of a single report file
+     */
+    void add(final Report issues) {
+        count(issues);
+        report.addAll(retention.retain(issues, maxIssues));
+        retained = null;
+    }
+
+    private void count(final Report issues) {
+        errorSize += issues.getSizeOf(ERROR);
+        highSeveritySize += issues.getSizeOf(WARNING_HIGH);
+        normalSeveritySize += issues.getSizeOf(WARNING_NORMAL);
+        lowSeveritySize += issues.getSizeOf(WARNING_LOW);
+    }
+
+    /**
+     * Returns the retained issues. The issues of the individual reports are reduced to the maximum number of issues
+     * outside the modified code once more, so the result is the same as if the retention policy had been applied to
+     * the issues of all reports at once.
+     *
+     * @return the retained issues
+     */
+    Report getReport() {
+        if (retained == null) {
+            retained = retention.retain(report, maxIssues);
+        }
+        return retained;
+    }
+
+    /**
+     * Returns the number of all issues with the specified severity, including the issues that have been discarded.
+     *
+     * @param severity
+     *         the severity to get the size for
+     *
+     * @return the number of issues with the specified severity
+     */
+    int getSizeOf(final Severity severity) {
+        if (severity.equals(ERROR)) {
+            return errorSize;
+        }
+        if (severity.equals(WARNING_HIGH)) {
+            return highSeveritySize;
+        }
+        if (severity.equals(WARNING_NORMAL)) {
+            return normalSeveritySize;
+        }
+        if (severity.equals(WARNING_LOW)) {
+            return lowSeveritySize;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the number of all issues, including the issues that have been discarded.
+     *
+     * @return the number of all issues
+     */
+    int getTotalSize() {
+        return errorSize + highSeveritySize + normalSeveritySize + lowSeveritySize;
+    }
+}
@@ -4,6 +4,7 @@ import com.google.errorprone.annotations.FormatMethod;
 
 import edu.hm.hafner.util.Ensure;
 import edu.hm.hafner.util.Generated;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -35,6 +36,13 @@ public abstract class Score<S extends Score<S, C>, C extends Configuration> impl
     private final C configuration;
     private final boolean delta;
 
+    private /* almost final */ int impact;
+    private /* almost final */ int value;
+    private /* almost final */ int percentage;
+    @CheckForNull
+    private /* almost final */ String summary; // null until the score has been frozen
+    private /* almost final */ boolean timedOut;
+
     @SuppressWarnings("PMD.LooseCoupling")
     private final ArrayList<S> subScores = new ArrayList<>();
 
@@ -53,6 +61,7 @@ public abstract class Score<S extends Score<S, C>, C extends Configuration> impl
         this(name, icon, scope, configuration, subScores.stream().anyMatch(Score::hasDelta));
 
         this.subScores.addAll(subScores);
+        this.timedOut = subScores.stream().anyMatch(Score::isTimedOut);
     }
 
     public List<S> getSubScores() {
@@ -86,13 +95,78 @@ public abstract class Score<S extends Score<S, C>, C extends Configuration> impl
     }
 
     /**
-     * Computes the impact of this score. The impact might be positive or negative depending on the configuration
+     * Returns whether the reports of this score could not be read before the deadline of the grading. Such a score is
+     * based on incomplete results, so it achieves no points. A score that aggregates other scores has timed out if
+     * one of its sub-scores has timed out.
+     *
+     * @return {@code true} if reading the reports has timed out, {@code false} otherwise
+     */
+    public final boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * Marks this score as timed out. Must be called before the score is frozen.
+     */
+    final void markTimedOut() {
+        timedOut = true;
+    }
+
+    /**
+     * Freezes the derived values of this score, i.e., the impact, the value, the percentage, and the summary. These
+     * values are read several times when the results are rendered, so they are computed only once when the score has
+     * been created by the {@link ScoreBuilder}.
+     */
+    final void freeze() {
+        impact = timedOut ? computeTimedOutImpact() : computeImpact();
+        value = computeValue();
+        percentage = computePercentage();
+        summary = timedOut && subScores.isEmpty() ? "reading the reports has timed out" : createSummary();
+    }
+
+    /**
+     * Freezes the derived values of this score if this has not been done yet. Scores that have been serialized before
+     * the derived values have been stored, or that have not been created by the {@link ScoreBuilder}, do not contain
+     * these values. They are computed on first access or after deserialization, see the {@code readResolve} methods of
+     * the subclasses.
+     */
+    final void freezeIfRequired() {
+        if (summary == null) {
+            freeze();
+        }
+    }
+
+    /**
+     * Returns the impact of a score that has timed out: the score is reduced to zero points since the results are
+     * incomplete.
+     */
+    private int computeTimedOutImpact() {
+        if (getConfiguration().isPositive()) {
+            return 0;
+        }
+        return -getMaxScore();
+    }
+
+    /**
+     * Returns the impact of this score. The impact might be positive or negative depending on the configuration
      * property {@link Configuration#isPositive()}. If the impact is negative, then the score is capped at 0. If the
      * impact is positive, then the score is capped at the maximum score.
      *
      * @return the impact of this score
      */
-    public abstract int getImpact();
+    public final int getImpact() {
+        freezeIfRequired();
+
+        return impact;
+    }
+
+    /**
+     * Computes the impact of this score. The impact might be positive or negative depending on the configuration
+     * property {@link Configuration#isPositive()}.
+     *
+     * @return the impact of this score
+     */
+    protected abstract int computeImpact();
 
     public int getMaxScore() {
         return configuration.getMaxScore();
@@ -109,18 +183,24 @@ public abstract class Score<S extends Score<S, C>, C extends Configuration> impl
     }
 
     /**
-     * Evaluates the score value. The value is in the interval [0, {@link #getMaxScore()}]. If the configuration
+     * Returns the score value. The value is in the interval [0, {@link #getMaxScore()}]. If the configuration
      * property {@link Configuration#isPositive()} is set, then the score will increase by the impact. Otherwise, the
      * impact will reduce the maximum score.
      *
      * @return the value of this score
      */
-    public int getValue() {
-        if (getImpact() < 0) {
-            return Math.max(0, getMaxScore() + getImpact());
+    public final int getValue() {
+        freezeIfRequired();
+
+        return value;
+    }
+
+    private int computeValue() {
+        if (impact < 0) {
+            return Math.max(0, getMaxScore() + impact);
         }
-        else if (getImpact() > 0) {
-            return Math.min(getMaxScore(), getImpact());
+        else if (impact > 0) {
+            return Math.min(getMaxScore(), impact);
         }
         if (getConfiguration().isPositive()) {
             return 0;
@@ -133,9 +213,15 @@ public abstract class Score<S extends Score<S, C>, C extends Configuration> impl
      *
      * @return the percentage
      */
-    public int getPercentage() {
+    public final int getPercentage() {
+        freezeIfRequired();
+
+        return percentage;
+    }
+
+    private int computePercentage() {
         if (hasMaxScore()) {
-            return getValue() * MAX_PERCENTAGE / getMaxScore();
+            return value * MAX_PERCENTAGE / getMaxScore();
         }
         return MAX_PERCENTAGE;
     }
@@ -146,6 +232,17 @@ public abstract class Score<S extends Score<S, C>, C extends Configuration> impl
         return Math.toIntExact(Math.round(ratio * impact * percentage));
     }
 
+    /**
+     * Returns a short summary text of the specific score.
+     *
+     * @return the summary text
+     */
+    public final String getSummary() {
+        freezeIfRequired();
+
+        return Objects.requireNonNull(summary);
+    }
+
     /**
      * Renders a short summary text of the specific score.
      *
@@ -189,6 +286,11 @@ public abstract class Score<S extends Score<S, C>, C extends Configuration> impl
         }
         var score = (Score<?, ?>) o;
         return delta == score.delta
+                && timedOut == score.timedOut
+                && impact == score.impact
+                && value == score.value
+                && percentage == score.percentage
+                && Objects.equals(summary, score.summary)
                 && Objects.equals(name, score.name)
                 && Objects.equals(icon, score.icon)
                 && scope == score.scope
@@ -199,7 +301,8 @@ public abstract class Score<S extends Score<S, C>, C extends Configuration> impl
     @Override
     @Generated
     public int hashCode() {
-        return Objects.hash(name, icon, scope, configuration, delta, subScores);
+        return Objects.hash(name, icon, scope, configuration, delta, impact, value, percentage, summary, timedOut,
+                subScores);
     }
 
     @Override
@@ -30,7 +30,8 @@ abstract class ScoreBuilder<S extends Score<S, C>, C extends Configuration> {
     private String icon = StringUtils.EMPTY;
     private String metric = StringUtils.EMPTY;
     private Scope scope = Scope.PROJECT;
-    private final String deltaReportsPath;
+    private boolean timedOut;
+    private final ReferenceResults referenceResults;
 
     @CheckForNull
     private C configuration;
@@ -42,9 +43,15 @@ abstract class ScoreBuilder<S extends Score<S, C>, C extends Configuration> {
     private Report report;
     @CheckForNull
     private Report deltaReport;
+    @CheckForNull
+    private RetainedIssues retainedIssues;
 
     protected ScoreBuilder(final String deltaReportsPath) {
-        this.deltaReportsPath = deltaReportsPath;
+        this(new ReferenceResults(deltaReportsPath));
+    }
+
+    protected ScoreBuilder(final ReferenceResults referenceResults) {
+        this.referenceResults = referenceResults;
     }
 
     /**
@@ -156,21 +163,68 @@ abstract class ScoreBuilder<S extends Score<S, C>, C extends Configuration> {
     }
 
     /**
-     * Aggregates the specified scores to a single score.
+     * Sets whether reading the reports of the tool has timed out. The scores that are built afterward will achieve no
+     * points.
+     *
+     * @param timedOut
+     *         {@code true} if reading the reports has timed out, {@code false} otherwise
+     *
+     * @return this
+     */
+    @CanIgnoreReturnValue
+    ScoreBuilder<S, C> setTimedOut(final boolean timedOut) {
+        this.timedOut = timedOut;
+
+        return this;
+    }
+
+    /**
+     * Aggregates the specified scores to a single score. The derived values of the aggregated score are frozen.
      *
      * @param scores
      *         the scores to aggregate
      *
      * @return the aggregated score
      */
-    abstract S aggregate(List<S> scores);
+    final S aggregate(final List<S> scores) {
+        return freeze(createAggregation(scores));
+    }
+
+    /**
+     * Creates a new score that aggregates the specified scores.
+     *
+     * @param scores
+     *         the scores to aggregate
+     *
+     * @return the aggregated score
+     */
+    abstract S createAggregation(List<S> scores);
+
+    /**
+     * Builds a new score instance using the configured builder properties. The derived values of the score are frozen.
+     *
+     * @return the new score instance
+     */
+    final S build() {
+        var score = createScore();
+        if (timedOut) {
+            score.markTimedOut();
+        }
+        return freeze(score);
+    }
 
     /**
-     * Builds a new score instance using the configured builder properties.
+     * Creates a new score instance using the configured builder properties.
      *
      * @return the new score instance
      */
-    abstract S build();
+    abstract S createScore();
+
+    private S freeze(final S score) {
+        score.freeze();
+
+        return score;
+    }
 
     /**
      * Returns the type of the score.
@@ -182,7 +236,7 @@ abstract class ScoreBuilder<S extends Score<S, C>, C extends Configuration> {
     void readNode(final ToolParser factory, final ToolConfiguration tool,
             final FilteredLog log) {
         setScope(tool.getScope());
-        node = factory.readNode(tool, NO_DELTA_REPORTS, deltaReportsPath, log);
+        node = factory.readNode(tool, NO_DELTA_REPORTS, referenceResults.getDirectory(), log);
         deltaNode = readDeltaNode(factory, tool, log);
 
         setName(tool.getName());
@@ -192,7 +246,7 @@ abstract class ScoreBuilder<S extends Score<S, C>, C extends Configuration> {
 
     private Node readDeltaNode(final ToolParser factory, final ToolConfiguration tool, final FilteredLog log) {
         if (hasDelta()) {
-            return factory.readNode(tool, deltaReportsPath, NO_DELTA_REPORTS, log);
+            return referenceResults.getNode(factory, tool, log);
         }
         return Objects.requireNonNull(node);
     }
@@ -200,20 +254,22 @@ abstract class ScoreBuilder<S extends Score<S, C>, C extends Configuration> {
     void readReport(final ToolParser factory, final ToolConfiguration tool,
             final FilteredLog log) {
         setScope(tool.getScope());
-        report = factory.readReport(tool, NO_DELTA_REPORTS, deltaReportsPath, log);
-        deltaReport = readDeltaReport(factory, tool, log);
+        if (hasDelta()) { // the issue delta requires all issues of the report
+            report = factory.readReport(tool, NO_DELTA_REPORTS, referenceResults.getDirectory(), log);
+            deltaReport = referenceResults.getReport(factory, tool, log);
+            retainedIssues = null;
+        }
+        else {
+            var issues = factory.readRetainedIssues(tool, NO_DELTA_REPORTS, referenceResults.getDirectory(), log);
+            report = issues.getReport();
+            deltaReport = report;
+            retainedIssues = issues;
+        }
 
         setName(StringUtils.defaultIfBlank(tool.getName(), Objects.requireNonNull(report).getName()));
         setIcon(tool.getIcon());
     }
 
-    private Report readDeltaReport(final ToolParser factory, final ToolConfiguration tool, final FilteredLog log) {
-        if (hasDelta()) {
-            return factory.readReport(tool, deltaReportsPath, NO_DELTA_REPORTS, log);
-        }
-        return Objects.requireNonNull(report);
-    }
-
     Node getNode() {
         return Objects.requireNonNull(node);
     }
@@ -230,8 +286,22 @@ abstract class ScoreBuilder<S extends Score<S, C>, C extends Configuration> {
         return Objects.requireNonNull(deltaReport);
     }
 
+    /**
+     * Returns the retained issues of the report along with the number of all issues. If the issues have not been read
+     * with a retention policy, e.g., since the issue delta requires all issues, then all issues of the report are
+     * retained.
+     *
+     * @return the retained issues
+     */
+    RetainedIssues getRetainedIssues() {
+        if (retainedIssues == null) {
+            return RetainedIssues.retain(getReport(), IssueRetention.ALL, 0);
+        }
+        return retainedIssues;
+    }
+
     boolean hasDelta() {
-        return !deltaReportsPath.equals(NO_DELTA_REPORTS) && getScope() == Scope.PROJECT;
+        return referenceResults.isAvailable() && getScope() == Scope.PROJECT;
     }
 
     @VisibleForTesting
@@ -249,6 +319,7 @@ abstract class ScoreBuilder<S extends Score<S, C>, C extends Configuration> {
     S create(final Report report) {
         this.report = report;
         this.deltaReport = new Report();
+        this.retainedIssues = null;
 
         return build();
     }
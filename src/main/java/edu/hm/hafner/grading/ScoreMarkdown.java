@@ -83,11 +83,27 @@ abstract class ScoreMarkdown<S extends Score<S, C>, C extends Configuration> {
      * @return formatted Markdown
      */
     String createDetails(final AggregatedScore aggregation, final boolean showDisabled) {
+        return createDetails(aggregation, showDisabled, MARKDOWN_MAX_SIZE);
+    }
+
+    /**
+     * Renders the score details in Markdown.
+     *
+     * @param aggregation
+     *         aggregated score
+     * @param showDisabled
+     *         determines whether disabled scores should be shown or skipped
+     * @param maxSize
+     *         the maximum number of characters of the truncated parts of the details
+     *
+     * @return formatted Markdown
+     */
+    String createDetails(final AggregatedScore aggregation, final boolean showDisabled, final int maxSize) {
         var scores = createScores(aggregation);
         if (scores.isEmpty()) {
             return createNotEnabled(showDisabled);
         }
-        return createSpecificDetails(scores);
+        return createSpecificDetails(scores, maxSize);
     }
 
     String delta(final int score, final boolean greenIsPositive) {
@@ -132,10 +148,12 @@ abstract class ScoreMarkdown<S extends Score<S, C>, C extends Configuration> {
      *
      * @param scores
      *         the scores to render the details for
+     * @param maxSize
+     *         the maximum number of characters of the truncated parts of the details
      *
      * @return the specific details
      */
-    abstract String createSpecificDetails(List<S> scores);
+    abstract String createSpecificDetails(List<S> scores, int maxSize);
 
     /**
      * Renders a summary of all sub-scores in Markdown.
@@ -182,7 +200,7 @@ abstract class ScoreMarkdown<S extends Score<S, C>, C extends Configuration> {
     }
 
     String createScoreSummary(final S s) {
-        return s.createSummary();
+        return s.getSummary();
     }
 
     /**
@@ -197,24 +215,34 @@ abstract class ScoreMarkdown<S extends Score<S, C>, C extends Configuration> {
 
     String getTextTitle(final S score, final int size) {
         return "#".repeat(size) + " "
-                + score.getName()
+                + getName(score)
                 + createScoreTitle(score);
     }
 
     String getTitle(final S score, final int size) {
         return "#".repeat(size)
-                + " %s &nbsp; %s".formatted(getIcon(score), score.getName())
+                + " %s &nbsp; %s".formatted(getIcon(score), getName(score))
                 + createScoreTitle(score);
     }
 
     String getScopeTitle(final S score, final boolean showHeaders) {
         if (showHeaders) {
-            return " %s &nbsp; %s%s".formatted(getIcon(score), score.getName(), createScoreTitle(score));
+            return " %s &nbsp; %s%s".formatted(getIcon(score), getName(score), createScoreTitle(score));
         }
-        return " %s &nbsp; %s (%s)%s".formatted(getIcon(score), score.getName(), score.getScope().getDisplayName(),
+        return " %s &nbsp; %s (%s)%s".formatted(getIcon(score), getName(score), score.getScope().getDisplayName(),
                 createScoreTitle(score));
     }
 
+    /**
+     * Returns the name of the score, scores that have timed out are marked as such.
+     */
+    private String getName(final S score) {
+        if (score.isTimedOut()) {
+            return score.getName() + " (timed out)";
+        }
+        return score.getName();
+    }
+
     String createScoreTitle(final S score) {
         var maxScore = score.getMaxScore();
         var value = score.getValue();
@@ -341,6 +369,15 @@ abstract class ScoreMarkdown<S extends Score<S, C>, C extends Configuration> {
                 .collect(Collectors.joining("|", "|", ""));
     }
 
+    /**
+     * Creates a short note that replaces the details if there is not enough space for them.
+     *
+     * @return the note in Markdown
+     */
+    String createOmitted() {
+        return "_%s: details omitted due to the size limit_".formatted(type) + PARAGRAPH;
+    }
+
     String createNotEnabled(final boolean showDisabled) {
         if (showDisabled) {
             return "## %s %s%s %n%n".formatted(icon, type, ": not enabled");
@@ -0,0 +1,237 @@
+package edu.hm.hafner.grading;
+
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.grading.ReportFingerprints.Fingerprint;
+import edu.hm.hafner.util.Ensure;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * A parse cache that is shared by all grading runs of a JVM. Long-running hosts, e.g., a Jenkins controller, grade the
+ * same reports several times: the reports of a reference build are parsed again for every pull request build. This
+ * cache stores the parsed results by the {@link ReportFingerprints fingerprint} of the report files, so a report file
+ * that has been parsed in any previous run will not be parsed again, even if it is stored in another workspace. The
+ * fingerprint contains a SHA-256 digest of the content, so the reports of one submission cannot be crafted to obtain
+ * the cached results of another submission.
+ *
+ * <p>
+ * The size of the cache is bounded by a maximum weight: the weight of an entry is the size of the report file in
+ * bytes. If adding a new entry exceeds the maximum weight, the least recently used entries are evicted. The cache is
+ * disabled by default, i.e., the maximum weight is 0. Hosts enable the cache with {@link #setMaxWeight(long)}. The
+ * cache is thread-safe; the reports are parsed without holding a lock, so several runs can parse different files
+ * concurrently.
+ * </p>
+ *
+ * <p>
+ * The cached models are never exposed: if the cache is enabled, it returns copies of the cached reports and trees, so
+ * callers can modify the results.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public final class SharedParseCache {
+    private static final SharedParseCache INSTANCE = new SharedParseCache(0);
+
+    /**
+     * Returns the cache that is shared by all grading runs of this JVM.
+     *
+     * @return the shared cache
+     */
+    public static SharedParseCache getInstance() {
+        return INSTANCE;
+    }
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long maxWeight;
+    private long weight;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * Creates a new cache with the specified maximum weight.
+     *
+     * @param maxWeight
+     *         the maximum weight of all entries, i.e. the sum of the sizes of all cached report files in bytes. A
+     *         value of 0 disables the cache.
+     */
+    SharedParseCache(final long maxWeight) {
+        setMaxWeight(maxWeight);
+    }
+
+    /**
+     * Sets the maximum weight of this cache. If the cache currently contains more entries, then the least recently
+     * used entries are evicted.
+     *
+     * @param maxWeight
+     *         the maximum weight of all entries, i.e. the sum of the sizes of all cached report files in bytes. A
+     *         value of 0 disables the cache.
+     */
+    public synchronized void setMaxWeight(final long maxWeight) {
+        Ensure.that(maxWeight >= 0).isTrue("Maximum weight must not be negative: %d", maxWeight);
+
+        this.maxWeight = maxWeight;
+        evict();
+    }
+
+    public synchronized long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized boolean isEnabled() {
+        return maxWeight > 0;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * Removes all entries from the cache and resets the counters.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+        hitCount.set(0);
+        missCount.set(0);
+        evictionCount.set(0);
+    }
+
+    /**
+     * Returns the static analysis report of the specified file. If a file with the same content has not been parsed
+     * yet, the specified parser is invoked and the result is stored in the cache.
+     *
+     * @param parserId
+     *         the ID of the parser
+     * @param file
+     *         the report file
+     * @param fingerprints
+     *         the fingerprints of the grading run that reads the file
+     * @param parser
+     *         the parser to invoke if the report is not yet in the cache
+     *
+     * @return the parsed report, a copy if the cache is enabled
+     */
+    Report getReport(final String parserId, final Path file, final ReportFingerprints fingerprints,
+            final Function<Path, Report> parser) {
+        return getOrParse("report:" + parserId, file, fingerprints, parser, ParseCache::copy);
+    }
+
+    /**
+     * Returns the coverage tree of the specified file. If a file with the same content has not been parsed yet, the
+     * specified parser is invoked and the result is stored in the cache.
+     *
+     * @param parserId
+     *         the ID of the parser
+     * @param file
+     *         the report file
+     * @param fingerprints
+     *         the fingerprints of the grading run that reads the file
+     * @param parser
+     *         the parser to invoke if the tree is not yet in the cache
+     *
+     * @return the parsed tree and the log messages of the parser, a copy if the cache is enabled
+     */
+    ParsedNode getNode(final String parserId, final Path file, final ReportFingerprints fingerprints,
+            final Function<Path, ParsedNode> parser) {
+        return getOrParse("node:" + parserId, file, fingerprints, parser, ParsedNode::copy);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getOrParse(final String type, final Path file, final ReportFingerprints fingerprints,
+            final Function<Path, T> parser, final UnaryOperator<T> copy) {
+        if (!isEnabled()) {
+            return parser.apply(file);
+        }
+
+        Fingerprint fingerprint;
+        try {
+            fingerprint = fingerprints.getFingerprint(file);
+        }
+        catch (IOException exception) {
+            return parser.apply(file); // the content cannot be read, let the parser report the problem
+        }
+
+        var key = type + "@" + fingerprint;
+        var cached = get(key);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return copy.apply((T) cached.getResult());
+        }
+
+        missCount.incrementAndGet();
+        var parsed = parser.apply(file);
+        put(key, new Entry(parsed, fingerprint.getSize()));
+        return copy.apply(parsed);
+    }
+
+    @CheckForNull
+    private synchronized Entry get(final String key) {
+        return entries.get(key);
+    }
+
+    private synchronized void put(final String key, final Entry entry) {
+        if (entry.getWeight() > maxWeight) {
+            return; // the entry would evict all other entries
+        }
+        var previous = entries.put(key, entry);
+        if (previous != null) {
+            weight -= previous.getWeight();
+        }
+        weight += entry.getWeight();
+        evict();
+    }
+
+    private void evict() {
+        var iterator = entries.values().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            weight -= iterator.next().getWeight();
+            iterator.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * A parsed result and its weight.
+     */
+    private static final class Entry {
+        private final Object result;
+        private final long weight;
+
+        Entry(final Object result, final long weight) {
+            this.result = result;
+            this.weight = weight;
+        }
+
+        Object getResult() {
+            return result;
+        }
+
+        long getWeight() {
+            return weight;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package edu.hm.hafner.grading;
+
+import edu.hm.hafner.coverage.Node;
+import edu.hm.hafner.coverage.TestCase;
+import edu.hm.hafner.coverage.TestCase.TestResult;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Compares the test cases of the current build with the test cases of a reference build. Test cases are identified by
+ * their class name and test name. The results of the reference test cases are indexed in a hash map in a single pass,
+ * then each current test case is looked up in this index. So the comparison requires linear time even for test suites
+ * with hundreds of thousands of tests.
+ *
+ * @author Ullrich Hafner
+ */
+final class TestDelta {
+    /** An empty delta, used if there is no reference. */
+    static final TestDelta EMPTY = new TestDelta(List.of(), List.of(), List.of());
+
+    /**
+     * Compares the test cases of the current build with the test cases of the reference build.
+     *
+     * @param current
+     *         the test results of the current build
+     * @param reference
+     *         the test results of the reference build
+     *
+     * @return the changed test cases
+     */
+    static TestDelta compute(final Node current, final Node reference) {
+        var referenceTests = reference.getTestCases();
+        var index = new HashMap<String, TestResult>((int) (referenceTests.size() / 0.75f) + 1);
+        for (TestCase testCase : referenceTests) {
+            index.put(getKey(testCase), testCase.getResult());
+        }
+
+        var newFailures = new ArrayList<TestCase>();
+        var fixedTests = new ArrayList<TestCase>();
+        var newSkippedTests = new ArrayList<TestCase>();
+        for (TestCase testCase : current.getTestCases()) {
+            var previous = index.get(getKey(testCase));
+            switch (testCase.getResult()) {
+                case FAILED -> {
+                    if (previous != TestResult.FAILED) {
+                        newFailures.add(testCase);
+                    }
+                }
+                case PASSED -> {
+                    if (previous == TestResult.FAILED) {
+                        fixedTests.add(testCase);
+                    }
+                }
+                case SKIPPED -> {
+                    if (previous != TestResult.SKIPPED) {
+                        newSkippedTests.add(testCase);
+                    }
+                }
+            }
+        }
+        return new TestDelta(newFailures, fixedTests, newSkippedTests);
+    }
+
+    /**
+     * Merges the specified deltas into a single delta.
+     *
+     * @param deltas
+     *         the deltas to merge
+     *
+     * @return the merged delta
+     */
+    static TestDelta merge(final List<TestDelta> deltas) {
+        var newFailures = new ArrayList<TestCase>();
+        var fixedTests = new ArrayList<TestCase>();
+        var newSkippedTests = new ArrayList<TestCase>();
+        for (TestDelta delta : deltas) {
+            newFailures.addAll(delta.getNewFailures());
+            fixedTests.addAll(delta.getFixedTests());
+            newSkippedTests.addAll(delta.getNewSkippedTests());
+        }
+        return new TestDelta(newFailures, fixedTests, newSkippedTests);
+    }
+
+    private static String getKey(final TestCase testCase) {
+        return testCase.getClassName() + '#' + testCase.getTestName();
+    }
+
+    private final List<TestCase> newFailures;
+    private final List<TestCase> fixedTests;
+    private final List<TestCase> newSkippedTests;
+
+    private TestDelta(final List<TestCase> newFailures, final List<TestCase> fixedTests,
+            final List<TestCase> newSkippedTests) {
+        this.newFailures = List.copyOf(newFailures);
+        this.fixedTests = List.copyOf(fixedTests);
+        this.newSkippedTests = List.copyOf(newSkippedTests);
+    }
+
+    /**
+     * Returns the test cases that fail in the current build but did not fail in the reference build.
+     *
+     * @return the new failures
+     */
+    List<TestCase> getNewFailures() {
+        return newFailures;
+    }
+
+    /**
+     * Returns the test cases that pass in the current build but failed in the reference build.
+     *
+     * @return the fixed tests
+     */
+    List<TestCase> getFixedTests() {
+        return fixedTests;
+    }
+
+    /**
+     * Returns the test cases that are skipped in the current build but were not skipped in the reference build.
+     *
+     * @return the new skipped tests
+     */
+    List<TestCase> getNewSkippedTests() {
+        return newSkippedTests;
+    }
+}
@@ -5,6 +5,8 @@ import org.apache.commons.lang3.StringUtils;
 import edu.hm.hafner.coverage.TestCase;
 import edu.hm.hafner.grading.TruncatedString.TruncatedStringBuilder;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.StringJoiner;
@@ -89,7 +91,7 @@ public class TestMarkdown extends ScoreMarkdown<TestScore, TestConfiguration> {
 
     @Override
     @SuppressWarnings("checkstyle:LambdaBodyLength")
-    String createSpecificDetails(final List<TestScore> scores) {
+    String createSpecificDetails(final List<TestScore> scores, final int maxSize) {
         var total = new StringBuilder();
         for (TestScore score : scores) {
             var details = new TruncatedStringBuilder().withTruncationText(TRUNCATION_TEXT);
@@ -136,33 +138,55 @@ public class TestMarkdown extends ScoreMarkdown<TestScore, TestConfiguration> {
             }
 
             if (score.hasSkippedTests()) {
-                addTestDetails(details, "### Skipped Tests", score.getSkippedTests(), this::renderTest);
+                addTestDetails(details, "### New Skipped Tests", score.getNewSkippedTests(), this::renderTest);
+                addTestDetails(details, "### Skipped Tests",
+                        remove(score.getSkippedTests(), score.getNewSkippedTests()), this::renderTest);
             }
 
             if (score.hasFailures()) {
-                var failuresWithStackTrace = getFailedTests(score, scores.size(), this::renderFailure);
+                var newFailures = score.getNewFailures();
+                var otherFailures = remove(score.getFailures(), newFailures);
+                var failuresSize = maxSize / scores.size();
+                var failuresWithStackTrace = getFailedTests(newFailures, otherFailures, failuresSize,
+                        this::renderFailure);
                 if (failuresWithStackTrace.contains(TRUNCATION_TEXT)) { // retry and render only failed tests
-                    details.addText(getFailedTests(score, scores.size(), this::renderTest));
+                    details.addText(getFailedTests(newFailures, otherFailures, failuresSize, this::renderTest));
                 }
                 else {
                     details.addText(failuresWithStackTrace);
                 }
             }
 
+            addTestDetails(details, "### Fixed Tests", score.getFixedTests(), this::renderTest);
+
             details.addNewline();
             total.append(details);
         }
         return total.toString();
     }
 
-    private String getFailedTests(final TestScore score, final int size, final Function<TestCase, String> renderer) {
+    private String getFailedTests(final List<TestCase> newFailures, final List<TestCase> otherFailures,
+            final int maxSize, final Function<TestCase, String> renderer) {
         var builder = new TruncatedStringBuilder().withTruncationText(TRUNCATION_TEXT);
-        addTestDetails(builder, "### Failures", score.getFailures(), renderer);
-        return builder.build().buildByChars(MARKDOWN_MAX_SIZE / size);
+        addTestDetails(builder, "### New Failures", newFailures, renderer); // regressions first
+        addTestDetails(builder, "### Failures", otherFailures, renderer);
+        return builder.build().buildByChars(Math.max(maxSize, TRUNCATION_TEXT.length()));
+    }
+
+    private List<TestCase> remove(final List<TestCase> testCases, final List<TestCase> removed) {
+        if (removed.isEmpty()) {
+            return testCases;
+        }
+        var index = Collections.newSetFromMap(new IdentityHashMap<TestCase, Boolean>());
+        index.addAll(removed);
+        return testCases.stream().filter(testCase -> !index.contains(testCase)).toList();
     }
 
     private void addTestDetails(final TruncatedStringBuilder details,
             final String title, final List<TestCase> testCases, final Function<TestCase, String> renderer) {
+        if (testCases.isEmpty()) {
+            return;
+        }
         details.addNewline().addText(title).addNewline();
         testCases.stream()
                 .map(renderer)
@@ -16,12 +16,14 @@ import edu.hm.hafner.util.FilteredLog;
 import edu.hm.hafner.util.Generated;
 
 import java.io.Serial;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Computes the {@link Score} impact of test results. These results are obtained by evaluating the
@@ -47,6 +49,9 @@ public final class TestScore extends Score<TestScore, TestConfiguration> {
     private /* almost final */ int skippedSizeDelta;
 
     private transient Node report; // do not persist the tree of nodes
+    private transient TestDelta testDelta; // do not persist the test cases
+    private transient List<TestCase> failures; // do not persist the test cases
+    private transient List<TestCase> skippedTests; // do not persist the test cases
 
     private TestScore(final String name, final String icon, final Scope scope, final TestConfiguration configuration,
             final List<TestScore> scores) {
@@ -61,6 +66,9 @@ public final class TestScore extends Score<TestScore, TestConfiguration> {
         this.skippedSizeDelta = sum(scores, TestScore::getSkippedSizeDelta);
 
         this.report = new ContainerNode(name);
+        this.testDelta = TestDelta.merge(scores.stream().map(TestScore::getTestDelta).toList());
+        this.failures = concat(scores, TestScore::getFailures);
+        this.skippedTests = concat(scores, TestScore::getSkippedTests);
 
         scores.stream().map(TestScore::getReport).forEach(report::addChild);
     }
@@ -68,11 +76,15 @@ public final class TestScore extends Score<TestScore, TestConfiguration> {
     private TestScore(final String name, final String icon, final Scope scope, final TestConfiguration configuration, final Node report, final boolean hasDelta) {
         super(name, icon, scope, configuration, hasDelta);
 
-        passedSize = sum(report, TestResult.PASSED);
-        failedSize = sum(report, TestResult.FAILED);
-        skippedSize = sum(report, TestResult.SKIPPED);
+        var partitions = partition(report);
+        passedSize = partitions.get(TestResult.PASSED).size();
+        failedSize = partitions.get(TestResult.FAILED).size();
+        skippedSize = partitions.get(TestResult.SKIPPED).size();
 
         this.report = report;
+        this.failures = List.copyOf(partitions.get(TestResult.FAILED));
+        this.skippedTests = List.copyOf(partitions.get(TestResult.SKIPPED));
+        this.testDelta = TestDelta.EMPTY;
     }
 
     private TestScore(final String name, final String icon, final Scope scope, final TestConfiguration configuration, final Node report) {
@@ -82,19 +94,27 @@ public final class TestScore extends Score<TestScore, TestConfiguration> {
     private TestScore(final String name, final String icon, final Scope scope, final TestConfiguration configuration, final Node report, final Node deltaReport) {
         this(name, icon, scope, configuration, report, true);
 
-        passedSizeDelta = passedSize - sum(deltaReport, TestResult.PASSED);
-        failedSizeDelta = failedSize - sum(deltaReport, TestResult.FAILED);
-        skippedSizeDelta = skippedSize - sum(deltaReport, TestResult.SKIPPED);
+        var referencePartitions = partition(deltaReport);
+        passedSizeDelta = passedSize - referencePartitions.get(TestResult.PASSED).size();
+        failedSizeDelta = failedSize - referencePartitions.get(TestResult.FAILED).size();
+        skippedSizeDelta = skippedSize - referencePartitions.get(TestResult.SKIPPED).size();
+
+        testDelta = TestDelta.compute(report, deltaReport);
     }
 
     /**
-     * Restore an empty report after deserialization.
+     * Restore an empty report after deserialization and compute the derived values if they have not been stored.
      *
      * @return this
      */
     @Serial @CanIgnoreReturnValue
     private Object readResolve() {
         report = new ModuleNode("empty");
+        testDelta = TestDelta.EMPTY;
+        failures = List.of();
+        skippedTests = List.of();
+
+        freezeIfRequired();
 
         return this;
     }
@@ -103,12 +123,21 @@ public final class TestScore extends Score<TestScore, TestConfiguration> {
         return scores.stream().map(property).reduce(Integer::sum).orElse(0);
     }
 
-    private int sum(final Node testReport, final TestResult testResult) {
-        return testReport.getTestCases().stream()
-                .map(TestCase::getResult)
-                .filter(status -> status == testResult)
-                .mapToInt(i -> 1)
-                .sum();
+    private List<TestCase> concat(final List<TestScore> scores, final Function<TestScore, List<TestCase>> property) {
+        return scores.stream().map(property).flatMap(List::stream).toList();
+    }
+
+    /**
+     * Partitions the test cases of the specified report by their results. The test cases of the report are visited
+     * only once, so the partitions can be used to compute the counters and to render the details.
+     */
+    private static Map<TestResult, List<TestCase>> partition(final Node testReport) {
+        var partitions = new EnumMap<TestResult, List<TestCase>>(TestResult.class);
+        for (TestResult result : TestResult.values()) {
+            partitions.put(result, new ArrayList<>());
+        }
+        testReport.getTestCases().forEach(testCase -> partitions.get(testCase.getResult()).add(testCase));
+        return partitions;
     }
 
     @JsonIgnore
@@ -121,7 +150,7 @@ public final class TestScore extends Score<TestScore, TestConfiguration> {
     }
 
     @Override
-    public int getImpact() {
+    protected int computeImpact() {
         var configuration = getConfiguration();
 
         int change = 0;
@@ -246,21 +275,58 @@ public final class TestScore extends Score<TestScore, TestConfiguration> {
     }
 
     /**
-     * Returns the list of failed test cases.
+     * Returns the list of failed test cases. The test cases are partitioned by their results when the score is
+     * created, so this method does not visit the test cases of the report.
      *
-     * @return the failed test cases
+     * @return the failed test cases (unmodifiable)
      */
     public List<TestCase> getFailures() {
-        return filterTests(TestResult.FAILED);
+        return Objects.requireNonNullElse(failures, List.of());
     }
 
     /**
-     * Returns the list of skipped test cases.
+     * Returns the list of skipped test cases. The test cases are partitioned by their results when the score is
+     * created, so this method does not visit the test cases of the report.
      *
-     * @return the skipped test cases
+     * @return the skipped test cases (unmodifiable)
      */
     public List<TestCase> getSkippedTests() {
-        return filterTests(TestResult.SKIPPED);
+        return Objects.requireNonNullElse(skippedTests, List.of());
+    }
+
+    /**
+     * Returns the test cases that fail in this build but did not fail in the reference build. Tests that are not part
+     * of the reference build are new failures as well.
+     *
+     * @return the new failures, or an empty list if there is no reference build
+     */
+    @JsonIgnore
+    public List<TestCase> getNewFailures() {
+        return getTestDelta().getNewFailures();
+    }
+
+    /**
+     * Returns the test cases that pass in this build but failed in the reference build.
+     *
+     * @return the fixed tests, or an empty list if there is no reference build
+     */
+    @JsonIgnore
+    public List<TestCase> getFixedTests() {
+        return getTestDelta().getFixedTests();
+    }
+
+    /**
+     * Returns the test cases that are skipped in this build but were not skipped in the reference build.
+     *
+     * @return the new skipped tests, or an empty list if there is no reference build
+     */
+    @JsonIgnore
+    public List<TestCase> getNewSkippedTests() {
+        return getTestDelta().getNewSkippedTests();
+    }
+
+    private TestDelta getTestDelta() {
+        return Objects.requireNonNullElse(testDelta, TestDelta.EMPTY);
     }
 
     /**
@@ -272,11 +338,6 @@ public final class TestScore extends Score<TestScore, TestConfiguration> {
         return hasSkippedTests() || hasFailures() || hasPassedTests();
     }
 
-    private List<TestCase> filterTests(final TestResult result) {
-        return getReport().getTestCases().stream()
-                .filter(testCase -> testCase.getResult() == result).collect(Collectors.toList());
-    }
-
     @Override
     protected String createSummary() {
         if (!hasTests()) {
@@ -332,13 +393,17 @@ public final class TestScore extends Score<TestScore, TestConfiguration> {
             super(deltaReportsPath);
         }
 
+        TestScoreBuilder(final ReferenceResults referenceResults) {
+            super(referenceResults);
+        }
+
         @Override
-        TestScore aggregate(final List<TestScore> scores) {
+        TestScore createAggregation(final List<TestScore> scores) {
             return new TestScore(getTopLevelName(), getIcon(), getScope(), getConfiguration(), scores);
         }
 
         @Override
-        TestScore build() {
+        TestScore createScore() {
             if (hasDelta()) {
                 return new TestScore(getName(), getIcon(), getScope(), getConfiguration(), getNode(), getDeltaNode());
             }
@@ -39,11 +39,17 @@ public final class ToolConfiguration implements Serializable {
     private final String scope;
     @JsonProperty
     private final String sourcePath;
+    @JsonProperty
+    private final int timeout;
+    @JsonProperty
+    private final String retention;
+    @JsonProperty
+    private final int maxIssues;
 
     @SuppressWarnings("unused") // Required for JSON conversion
     private ToolConfiguration() {
         this(StringUtils.EMPTY, StringUtils.EMPTY, StringUtils.EMPTY, StringUtils.EMPTY,
-                StringUtils.EMPTY, StringUtils.EMPTY, StringUtils.EMPTY);
+                StringUtils.EMPTY, StringUtils.EMPTY, StringUtils.EMPTY, 0, StringUtils.EMPTY, 0);
     }
 
     /**
@@ -66,6 +72,63 @@ public final class ToolConfiguration implements Serializable {
      */
     public ToolConfiguration(final String id, final String name, final String pattern,
                              final String metric, final String icon, final String scope, final String sourcePath) {
+        this(id, name, pattern, metric, icon, scope, sourcePath, 0);
+    }
+
+    /**
+     * Creates a new {@link ToolConfiguration} instance.
+     *
+     * @param id
+     *         the unique ID of the tool
+     * @param name
+     *         the human-readable name of the tool
+     * @param pattern
+     *         the Ant-style pattern to find the reports
+     * @param metric
+     *         the metric to extract from the report
+     * @param icon
+     *         the icon to use for this tool
+     * @param scope
+     *        the scope of the tool
+     * @param sourcePath
+     *        the source path to resolve source files
+     * @param timeout
+     *        the maximum time in seconds to read the reports of the tool, 0 if there is no limit
+     */
+    public ToolConfiguration(final String id, final String name, final String pattern,
+                             final String metric, final String icon, final String scope, final String sourcePath,
+                             final int timeout) {
+        this(id, name, pattern, metric, icon, scope, sourcePath, timeout, StringUtils.EMPTY, 0);
+    }
+
+    /**
+     * Creates a new {@link ToolConfiguration} instance.
+     *
+     * @param id
+     *         the unique ID of the tool
+     * @param name
+     *         the human-readable name of the tool
+     * @param pattern
+     *         the Ant-style pattern to find the reports
+     * @param metric
+     *         the metric to extract from the report
+     * @param icon
+     *         the icon to use for this tool
+     * @param scope
+     *        the scope of the tool
+     * @param sourcePath
+     *        the source path to resolve source files
+     * @param timeout
+     *        the maximum time in seconds to read the reports of the tool, 0 if there is no limit
+     * @param retention
+     *        the {@link IssueRetention retention policy} for the issues of the tool
+     * @param maxIssues
+     *        the maximum number of issues outside the modified code to retain, 0 to use the default
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public ToolConfiguration(final String id, final String name, final String pattern,
+                             final String metric, final String icon, final String scope, final String sourcePath,
+                             final int timeout, final String retention, final int maxIssues) {
         this.id = id;
         this.name = name;
         this.pattern = pattern;
@@ -73,6 +136,9 @@ public final class ToolConfiguration implements Serializable {
         this.icon = icon;
         this.scope = scope;
         this.sourcePath = sourcePath;
+        this.timeout = timeout;
+        this.retention = retention;
+        this.maxIssues = maxIssues;
     }
 
     public String getId() {
@@ -104,6 +170,23 @@ public final class ToolConfiguration implements Serializable {
         return StringUtils.defaultString(sourcePath);
     }
 
+    /**
+     * Returns the maximum time in seconds to read the reports of the tool.
+     *
+     * @return the timeout in seconds, or 0 if there is no limit
+     */
+    public int getTimeout() {
+        return Math.max(timeout, 0);
+    }
+
+    public IssueRetention getRetention() {
+        return IssueRetention.fromString(StringUtils.defaultString(retention));
+    }
+
+    public int getMaxIssues() {
+        return Math.max(maxIssues, 0);
+    }
+
     public Scope getScope() {
         return StringUtils.isBlank(scope) ? Scope.PROJECT : Scope.fromString(scope);
     }
@@ -124,13 +207,16 @@ public final class ToolConfiguration implements Serializable {
                 && Objects.equals(pattern, that.pattern)
                 && Objects.equals(metric, that.metric)
                 && Objects.equals(sourcePath, that.sourcePath)
-                && Objects.equals(scope, that.scope);
+                && Objects.equals(scope, that.scope)
+                && timeout == that.timeout
+                && Objects.equals(retention, that.retention)
+                && maxIssues == that.maxIssues;
     }
 
     @Override
     @Generated
     public int hashCode() {
-        return Objects.hash(id, name, icon, pattern, metric, sourcePath, scope);
+        return Objects.hash(id, name, icon, pattern, metric, sourcePath, scope, timeout, retention, maxIssues);
     }
 
     @Override
@@ -30,6 +30,32 @@ interface ToolParser {
      */
     Report readReport(ToolConfiguration tool, String directory, String excluded, FilteredLog log);
 
+    /**
+     * Creates a static analysis report for the specified tool that contains only the issues that should be retained
+     * according to the {@link IssueRetention retention policy} of the tool. The number of issues per severity is
+     * computed from all issues. The default implementation reads the complete report and discards the surplus issues
+     * afterward, parsers that read several report files should discard the issues of each report file as soon as it
+     * has been read.
+     *
+     * @param tool
+     *         the tool to create the report for
+     * @param directory
+     *         the directory to scan for reports
+     * @param excluded
+     *         the excluded files
+     * @param log
+     *         the logger to report the progress
+     *
+     * @return the retained issues
+     * @throws NoSuchElementException
+     *         if there is no analysis report for the specified tool
+     */
+    default RetainedIssues readRetainedIssues(final ToolConfiguration tool, final String directory,
+            final String excluded, final FilteredLog log) {
+        return RetainedIssues.retain(readReport(tool, directory, excluded, log),
+                tool.getRetention(), tool.getMaxIssues());
+    }
+
     /**
      * Creates a coverage report for the specified tool.
      *
@@ -24,6 +24,7 @@ import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Objects;
 
 import static edu.hm.hafner.grading.ScoreBuilder.*;
@@ -576,6 +577,28 @@ class AggregatedScoreTest extends SerializableTest<AggregatedScore> {
                 "edu/hm/hafner/analysis/IssuesTest.java");
     }
 
+    @Test
+    void shouldGradeToolsThatTimedOutWithZeroPoints() {
+        var aggregation = new AggregatedScore(new FilteredLog("Test"));
+        aggregation.setDeadline(Instant.now().minusSeconds(1));
+
+        aggregation.gradeAnalysis(new ReportSupplier(this::readAnalysisReport),
+                AnalysisConfiguration.from(ANALYSIS_CONFIGURATION), NO_DELTA_REPORTS);
+
+        assertThat(aggregation.getAnalysisScores()).hasSize(2).allSatisfy(score -> {
+            assertThat(score.isTimedOut()).isTrue();
+            assertThat(score.getValue()).isZero();
+            assertThat(score.getSubScores()).allSatisfy(tool -> {
+                assertThat(tool.isTimedOut()).isTrue();
+                assertThat(tool.getValue()).isZero();
+                assertThat(tool.getSummary()).isEqualTo("reading the reports has timed out");
+            });
+        });
+        assertThat(aggregation.getAnalysisAchievedScore()).isZero();
+        assertThat(new GradingReport().getMarkdownDetails(aggregation)).contains("Bugs (timed out) - 0 of 100");
+        assertThat(new GradingReport().getMarkdownSummary(aggregation)).contains("SpotBugs (timed out)");
+    }
+
     private static Node readCoverageReport(final ToolConfiguration configuration) {
         return readCoverageReport("jacoco.xml", CoverageParserType.JACOCO, configuration.getName());
     }
@@ -259,11 +259,17 @@ class AnalysisMarkdownTest {
 
         if (scope == Scope.PROJECT) {
             assertThat(analysisMarkdown.createSummary(score)).contains("(+1)");
-            assertThat(analysisMarkdown.createDetails(score)).contains("(+1)");
+            assertThat(analysisMarkdown.createDetails(score)).contains("(+1)", "|New|Fixed|", "|3|2|");
+            var checkStyle = score.getAnalysisScores().getFirst();
+            assertThat(checkStyle.getNewSize()).isEqualTo(3);
+            assertThat(checkStyle.getOutstandingSize()).isEqualTo(7);
+            assertThat(checkStyle.getFixedSize()).isEqualTo(2);
+            assertThat(score.getNewIssues()).hasSize(3);
         }
         else {
             assertThat(analysisMarkdown.createSummary(score)).doesNotContain("(+1)");
-            assertThat(analysisMarkdown.createDetails(score)).doesNotContain("(+1)");
+            assertThat(analysisMarkdown.createDetails(score)).doesNotContain("(+1)", "|New|Fixed|");
+            assertThat(score.getNewIssues()).hasSize(10);
         }
     }
 
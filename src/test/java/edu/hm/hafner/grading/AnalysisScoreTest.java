@@ -1,5 +1,6 @@
 package edu.hm.hafner.grading;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.jupiter.api.Test;
 
 import edu.hm.hafner.analysis.IssueBuilder;
@@ -7,6 +8,7 @@ import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.registry.ParserRegistry;
 import edu.hm.hafner.grading.AnalysisScore.AnalysisScoreBuilder;
+import edu.hm.hafner.util.FilteredLog;
 
 import java.util.List;
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -298,6 +300,127 @@ class AnalysisScoreTest {
         return report;
     }
 
+    @Test
+    void shouldFreezeDerivedValuesWhenBuilt() {
+        var configuration = createConfiguration("""
+                {
+                  "analysis": {
+                    "tools": [
+                        {
+                          "id": "spotbugs",
+                          "name": "SpotBugs",
+                          "pattern": "target/spotbugsXml.xml"
+                        }
+                      ],
+                    "errorImpact": -4,
+                    "highImpact": -3,
+                    "normalImpact": -2,
+                    "lowImpact": -1,
+                    "maxScore": 25
+                  }
+                }
+                """);
+
+        var analysisScore = createScore(configuration);
+        assertThat(analysisScore)
+                .hasImpact(analysisScore.computeImpact())
+                .hasValue(5)
+                .hasPercentage(20)
+                .hasSummary(analysisScore.createSummary());
+
+        var builder = new AnalysisScoreBuilder();
+        builder.setConfiguration(configuration);
+        var aggregation = builder.aggregate(List.of(analysisScore, analysisScore));
+        assertThat(aggregation)
+                .hasImpact(2 * analysisScore.getImpact())
+                .hasValue(0)
+                .hasPercentage(0)
+                .hasSummary(aggregation.createSummary());
+    }
+
+    @Test
+    void shouldKeepCountersIfIssuesAreDiscarded() {
+        var configuration = createConfiguration("""
+                {
+                  "analysis": {
+                    "tools": [
+                        {
+                          "id": "checkstyle",
+                          "name": "CheckStyle",
+                          "pattern": "target/checkstyle.xml",
+                          "retention": "counters"
+                        }
+                      ],
+                    "errorImpact": -4,
+                    "highImpact": -3,
+                    "normalImpact": -2,
+                    "lowImpact": -1,
+                    "maxScore": 25
+                  }
+                }
+                """);
+
+        var builder = new AnalysisScoreBuilder();
+        builder.setConfiguration(configuration);
+        var tool = configuration.getTools().getFirst();
+        var report = createReportWith(Severity.ERROR, Severity.WARNING_HIGH, Severity.WARNING_HIGH,
+                Severity.WARNING_LOW);
+        builder.read(new ReportSupplier(t -> report), tool, new FilteredLog("Errors"));
+
+        var analysisScore = builder.build();
+        assertThat(analysisScore)
+                .hasErrorSize(1).hasHighSeveritySize(2).hasNormalSeveritySize(0).hasLowSeveritySize(1)
+                .hasImpact(-4 - 2 * 3 - 1)
+                .hasSummary("4 warnings (error: 1, high: 2, normal: 0, low: 1)");
+        assertThat(analysisScore.getReport()).isEmpty();
+        assertThat(analysisScore.hasAllIssues()).isFalse();
+
+        assertThat(new AnalysisMarkdown().createScoreSummary(analysisScore))
+                .isEqualTo("4 warnings — error: 1, high: 2, normal: 0, low: 1");
+    }
+
+    @Test
+    void shouldFreezeDerivedValuesOfScoresThatHaveBeenSerializedWithoutThem() {
+        var configuration = createConfiguration("""
+                {
+                  "analysis": {
+                    "tools": [
+                        {
+                          "id": "spotbugs",
+                          "name": "SpotBugs",
+                          "pattern": "target/spotbugsXml.xml"
+                        }
+                      ],
+                    "errorImpact": -4,
+                    "highImpact": -3,
+                    "normalImpact": -2,
+                    "lowImpact": -1,
+                    "maxScore": 50
+                  }
+                }
+                """);
+
+        var analysisScore = createScore(configuration);
+        var builder = new AnalysisScoreBuilder();
+        builder.setConfiguration(configuration);
+        var frozen = builder.aggregate(List.of(analysisScore, analysisScore));
+
+        // A score that has not been frozen has the same state as a score that has been serialized by a previous version
+        var restored = SerializationUtils.roundtrip(builder.createAggregation(List.of(analysisScore, analysisScore)));
+
+        assertThat(restored)
+                .hasImpact(frozen.getImpact())
+                .hasValue(frozen.getValue())
+                .hasPercentage(frozen.getPercentage())
+                .hasSummary("16 warnings (error: 4, high: 4, normal: 4, low: 4)");
+        assertThat(builder.createAggregation(List.of(analysisScore, analysisScore)))
+                .as("Scores that have not been created by the builder are frozen on first access")
+                .hasImpact(frozen.getImpact())
+                .hasValue(frozen.getValue())
+                .hasPercentage(frozen.getPercentage())
+                .hasSummary(frozen.getSummary());
+    }
+
     private AnalysisConfiguration createConfiguration(final String json) {
         return AnalysisConfiguration.from(json).getFirst();
     }
@@ -306,7 +429,7 @@ class AnalysisScoreTest {
     void shouldAdhereToEquals() {
         EqualsVerifier.forClass(AnalysisScore.class)
                 .withRedefinedSuperclass()
-                .withIgnoredFields("report")
+                .withIgnoredFields("report", "newIssues")
                 .suppress(Warning.NONFINAL_FIELDS)
                 .verify();
     }
@@ -28,6 +28,7 @@ import static org.mockito.Mockito.*;
  * @author Jannik Ohme
  */
 class AutoGradingRunnerITest extends ResourceTest {
+    private static final String GRADING_ERROR = "An error occurred while grading";
     private static final String CONFIGURATION = """
                   {
                     "tests": {
@@ -1045,6 +1046,46 @@ class AutoGradingRunnerITest extends ResourceTest {
                         "Autograding score - 100 of 100");
     }
 
+    @Test
+    void shouldGradeSeveralRubrics() {
+        var outputStream = new ByteArrayOutputStream();
+        var runner = spy(createRunner(outputStream));
+
+        var lenient = COVERAGE.replace("\"maxScore\": 100", "\"maxScore\": 50");
+        var scores = runner.run(List.of(COVERAGE, TEST, lenient));
+
+        assertThat(scores).hasSize(3);
+        assertThat(scores.get(0).getCoverageMaxScore()).isEqualTo(100);
+        assertThat(scores.get(1).getTestMaxScore()).isEqualTo(100);
+        assertThat(scores.get(1).hasCoverage()).isFalse();
+        assertThat(scores.get(2).getCoverageMaxScore()).isEqualTo(50);
+        verify(runner, times(3)).publishGradingResult(any(), any(), any());
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8))
+                .contains("Grading 3 rubrics",
+                        "Rubric 1 of 3", "Rubric 2 of 3", "Rubric 3 of 3",
+                        "=> JaCoCo Score: 100 of 100 [Whole Project]",
+                        "=> JaCoCo Score: 50 of 50 [Whole Project]");
+    }
+
+    @Test
+    void shouldGradeRemainingRubricsIfRubricFails() {
+        var outputStream = new ByteArrayOutputStream();
+        var runner = spy(createRunner(outputStream));
+        doReturn(true).when(runner).failOnQualityGate();
+
+        var scores = runner.run(List.of("{ broken", COVERAGE, TEST));
+
+        assertThat(scores).hasSize(3);
+        verify(runner).publishError(eq(scores.get(0)), any(), any());
+        verify(runner, times(2)).publishGradingResult(any(), any(), any());
+        assertThat(scores.get(0).getErrorMessages()).anyMatch(message -> message.contains(GRADING_ERROR));
+        assertThat(scores.get(1).getErrorMessages()).as("Errors must not leak into other rubrics")
+                .noneMatch(message -> message.contains(GRADING_ERROR));
+        assertThat(scores.get(2).getErrorMessages()).noneMatch(message -> message.contains(GRADING_ERROR));
+        assertThat(scores.get(2).getTestMaxScore()).isEqualTo(100);
+    }
+
     @Test
     @SetEnvironmentVariable(key = "CONFIG", value = METRICS)
     void shouldGradeOnlyMetrics() {
@@ -0,0 +1,163 @@
+package edu.hm.hafner.grading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.grading.BatchCommentBuilder.Comment;
+import edu.hm.hafner.util.FilteredLog;
+import edu.hm.hafner.util.LineRange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static edu.hm.hafner.grading.ScoreBuilder.*;
+import static org.assertj.core.api.Assertions.*;
+
+class BatchCommentBuilderTest {
+    private static final String CONFIGURATION = """
+            {
+              "analysis": {
+                "name": "Style",
+                "id": "style",
+                "tools": [
+                  {
+                    "id": "checkstyle",
+                    "pattern": "checkstyle.xml"
+                  }
+                ]
+              }
+            }
+            """;
+    private static final int ISSUES = 23;
+
+    @ParameterizedTest(name = "asynchronous={0}")
+    @ValueSource(booleans = {false, true})
+    void shouldPublishCommentsInBatches(final boolean asynchronous) {
+        var builder = new RecordingCommentBuilder(Map.of(), 10, asynchronous);
+
+        builder.createAnnotations(createScore());
+
+        assertThat(builder.getBatches()).extracting(List::size).containsExactly(10, 10, 3);
+        assertThat(builder.getBatches().stream().flatMap(List::stream))
+                .extracting(Comment::getLineStart)
+                .containsExactlyElementsOf(new LineRange(1, ISSUES).getLines());
+        assertThat(builder.getBatches().getFirst().getFirst())
+                .asString().startsWith("[WARNING] File.java:1-1: Message 1");
+    }
+
+    @ParameterizedTest(name = "asynchronous={0}")
+    @ValueSource(booleans = {false, true})
+    void shouldPublishOnlyCommentsForModifiedLines(final boolean asynchronous) {
+        var builder = new RecordingCommentBuilder(Map.of("File.java", Set.of(2, 3, 5)), 2, asynchronous);
+
+        builder.createAnnotations(createScore());
+
+        assertThat(builder.getBatches()).extracting(List::size).containsExactly(2, 1);
+        assertThat(builder.getBatches().stream().flatMap(List::stream))
+                .extracting(Comment::getLineStart).containsExactly(2, 3, 5);
+    }
+
+    @Test
+    void shouldNotPublishEmptyBatches() {
+        var builder = new RecordingCommentBuilder(Map.of(), 10, true);
+
+        builder.createAnnotations(new AggregatedScore(new FilteredLog("Test")));
+
+        assertThat(builder.getBatches()).isEmpty();
+    }
+
+    @Test
+    void shouldReportFailureOfAsynchronousPublisher() {
+        var builder = new RecordingCommentBuilder(Map.of(), 1, true) {
+            @Override
+            protected void publishComments(final List<Comment> comments) {
+                throw new IllegalArgumentException("Rejected");
+            }
+        };
+
+        assertThatIllegalStateException().isThrownBy(() -> builder.createAnnotations(createScore()))
+                .withMessage("Publishing of comments failed")
+                .withCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReportErrorOfAsynchronousPublisher() {
+        var builder = new RecordingCommentBuilder(Map.of(), 1, true) {
+            @Override
+            protected void publishComments(final List<Comment> comments) {
+                throw new AssertionError("Broken");
+            }
+        };
+
+        assertThatIllegalStateException().isThrownBy(() -> builder.createAnnotations(createScore()))
+                .withMessage("Publishing of comments failed")
+                .withCauseInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void shouldRejectInvalidBatchSize() {
+        var builder = new RecordingCommentBuilder(Map.of(), 0, false);
+
+        assertThatThrownBy(() -> builder.createAnnotations(createScore()))
+                .hasMessageContaining("The batch size must be positive: 0");
+    }
+
+    private AggregatedScore createScore() {
+        var report = new Report("checkstyle", "CheckStyle");
+        try (var builder = new IssueBuilder()) {
+            builder.setFileName("File.java").setType("Type");
+            for (int line = 1; line <= ISSUES; line++) {
+                report.add(builder.setLineStart(line).setLineEnd(line).setMessage("Message " + line).build());
+            }
+        }
+
+        var score = new AggregatedScore(new FilteredLog("Test"));
+        score.gradeAnalysis(new ReportSupplier(tool -> report), AnalysisConfiguration.from(CONFIGURATION),
+                NO_DELTA_REPORTS);
+        return score;
+    }
+
+    private static class RecordingCommentBuilder extends BatchCommentBuilder {
+        private final List<List<Comment>> batches = Collections.synchronizedList(new ArrayList<>());
+        private final int batchSize;
+        private final boolean asynchronous;
+
+        RecordingCommentBuilder(final Map<String, Set<Integer>> modifiedFilesAndLines, final int batchSize,
+                final boolean asynchronous) {
+            super(modifiedFilesAndLines);
+
+            this.batchSize = batchSize;
+            this.asynchronous = asynchronous;
+        }
+
+        List<List<Comment>> getBatches() {
+            return batches;
+        }
+
+        @Override
+        protected void publishComments(final List<Comment> comments) {
+            batches.add(comments);
+        }
+
+        @Override
+        protected int getBatchSize() {
+            return batchSize;
+        }
+
+        @Override
+        protected boolean isPublishingAsynchronous() {
+            return asynchronous;
+        }
+
+        @Override
+        protected int getQueueCapacity() {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package edu.hm.hafner.grading;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.grading.BatchGrading.Submission;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BatchGradingTest {
+    private static final String CONFIGURATION = """
+            {
+              "analysis": [
+                {
+                  "name": "Style",
+                  "id": "style",
+                  "tools": [
+                    {
+                      "id": "checkstyle",
+                      "pattern": "**/grading/checkstyle.xml"
+                    }
+                  ],
+                  "errorImpact": -1,
+                  "maxScore": 100
+                }
+              ]
+            }
+            """;
+    private static final Path WORKSPACE = Path.of("src/test/resources/edu/hm/hafner");
+    private static final Path EMPTY_WORKSPACE = Path.of("src/test/resources/edu/hm/hafner/grading/delta");
+
+    @Test
+    void shouldGradeSubmissionsInOrderOfWorkspaces() {
+        var batch = new BatchGrading(CONFIGURATION, 2);
+
+        var submissions = batch.grade(List.of(WORKSPACE, EMPTY_WORKSPACE, WORKSPACE));
+
+        assertThat(submissions).extracting(Submission::getWorkspace)
+                .containsExactly(WORKSPACE, EMPTY_WORKSPACE, WORKSPACE);
+        assertThat(submissions).noneMatch(Submission::hasFailed);
+        assertThat(submissions).extracting(submission -> submission.getScore().getAchievedScore())
+                .containsExactly(94, 100, 94);
+        assertThat(submissions.get(0).getScore().getInfoMessages()).contains(
+                "- src/test/resources/edu/hm/hafner/grading/checkstyle.xml: 6 warnings [Whole Project]");
+
+        var table = new GradeTable(submissions);
+        assertThat(table.asCsv()).isEqualTo("""
+                workspace,tests,coverage,analysis,metrics,achieved,max,percentage,status
+                src/test/resources/edu/hm/hafner,0,0,94,0,94,100,94,OK
+                src/test/resources/edu/hm/hafner/grading/delta,0,0,100,0,100,100,100,OK
+                src/test/resources/edu/hm/hafner,0,0,94,0,94,100,94,OK
+                """);
+        assertThat(table.asJson()).startsWith("[").endsWith("]")
+                .containsIgnoringWhitespaces("\"workspace\":\"src/test/resources/edu/hm/hafner\"")
+                .containsIgnoringWhitespaces("\"analysis\":94")
+                .containsIgnoringWhitespaces("\"status\":\"OK\"");
+    }
+
+    @Test
+    void shouldRejectInvalidConcurrency() {
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> new BatchGrading(CONFIGURATION, 0))
+                .withMessageContaining("must be positive");
+    }
+}
@@ -1,6 +1,8 @@
 package edu.hm.hafner.grading;
 
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
@@ -14,7 +16,9 @@ import edu.hm.hafner.grading.CommentBuilder.FileSystemFacade;
 import edu.hm.hafner.util.FilteredLog;
 import edu.hm.hafner.util.LineRange;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Objects;
@@ -304,6 +308,46 @@ class CommentBuilderTest {
         return aggregation;
     }
 
+    @Test
+    void shouldCreateIdenticalCoverageCommentsOnlyOnce() {
+        var configuration = """
+                {
+                  "coverage": [
+                  {
+                      "tools": [
+                          {
+                            "id": "pit",
+                            "sourcePath": "src/main/java",
+                            "name": "Line Coverage",
+                            "metric": "line",
+                            "pattern": "**/src/**/mutations-dashboard.xml"
+                          },
+                          {
+                            "id": "pit",
+                            "sourcePath": "src/main/java",
+                            "name": "Mutation Coverage",
+                            "metric": "mutation",
+                            "pattern": "**/src/**/mutations-dashboard.xml"
+                          }
+                        ],
+                    "name": "PIT"
+                  }
+                  ]
+                }
+                """;
+        var aggregation = new AggregatedScore(new FilteredLog("Test"));
+        aggregation.gradeCoverage(
+                new NodeSupplier(t ->
+                        AggregatedScoreTest.readCoverageReport("mutations-dashboard.xml", CoverageParserType.PIT, "mutations-dashboard.xml")),
+                CoverageConfiguration.from(configuration), NO_DELTA_REPORTS);
+
+        var builder = new StringCommentBuilder();
+
+        builder.createAnnotations(aggregation);
+
+        assertThat(builder.getCreated()).as("Missed lines of both tools should be reported only once").isEqualTo(7);
+    }
+
     @Test
     void shouldSkipCommentsWhenNotPartOfDiff() {
         var aggregation = createCoverageAggregation();
@@ -378,4 +422,65 @@ class CommentBuilderTest {
                 .hasSize(35)
                 .allSatisfy(s -> assertThat(s).startsWith("src/main/java/"));
     }
+
+    @Test
+    void shouldResolveEachFileOnlyOnce() {
+        var builder = new StringCommentBuilder();
+
+        var facade = mock(FileSystemFacade.class);
+        builder.setFileSystemFacade(facade);
+
+        var score = new AggregatedScore(new FilteredLog("Test"));
+        score.gradeAnalysis(new ReportSupplier(this::readAnalysisReport),
+                AnalysisConfiguration.from(REVAPI_CONFIGURATION), NO_DELTA_REPORTS);
+
+        builder.createAnnotations(score);
+
+        assertThat(builder.getPaths()).hasSize(35);
+
+        var checkedFiles = ArgumentCaptor.forClass(String.class);
+        verify(facade, atLeastOnce()).exists(checkedFiles.capture());
+        assertThat(checkedFiles.getAllValues()).doesNotHaveDuplicates();
+        verify(facade).refresh();
+    }
+
+    @Test
+    void shouldMemorizeExistenceOfFiles(@TempDir final Path workspace) throws IOException {
+        Files.createDirectories(workspace.resolve("src/main/java"));
+        Files.writeString(workspace.resolve("src/main/java/Existing.java"), "class Existing {}");
+        Files.createDirectories(workspace.resolve("target"));
+        Files.writeString(workspace.resolve("target/Generated.java"), "class Generated {}");
+
+        var facade = new FileSystemFacade(workspace);
+
+        assertThat(facade.exists("src/main/java/Existing.java")).isTrue();
+        assertThat(facade.exists("./src/main/java/../java/Existing.java")).isTrue();
+        assertThat(facade.exists("src/main/java")).isTrue();
+        assertThat(facade.exists("target/Generated.java")).isTrue();
+        assertThat(facade.exists("src/main/java/Created.java")).isFalse();
+
+        Files.writeString(workspace.resolve("src/main/java/Created.java"), "class Created {}");
+        assertThat(facade.exists("src/main/java/Created.java")).as("Results are memorized for the current run")
+                .isFalse();
+
+        facade.refresh();
+        assertThat(facade.exists("src/main/java/Created.java")).isTrue();
+    }
+
+    @Test
+    void shouldFindFilesBehindSymbolicLinks(@TempDir final Path workspace, @TempDir final Path sources)
+            throws IOException {
+        Files.writeString(sources.resolve("Linked.java"), "class Linked {}");
+        try {
+            Files.createSymbolicLink(workspace.resolve("linked"), sources);
+        }
+        catch (UnsupportedOperationException | IOException exception) {
+            Assumptions.abort("Symbolic links are not supported: " + exception.getMessage());
+        }
+
+        var facade = new FileSystemFacade(workspace);
+
+        assertThat(facade.exists("linked/Linked.java")).isTrue();
+        assertThat(facade.exists("linked/Missing.java")).isFalse();
+    }
 }
@@ -7,9 +7,11 @@ import org.junit.jupiter.params.provider.EnumSource;
 import edu.hm.hafner.coverage.ContainerNode;
 import edu.hm.hafner.coverage.Coverage.CoverageBuilder;
 import edu.hm.hafner.coverage.CoverageParser.ProcessingMode;
+import edu.hm.hafner.coverage.FileNode;
 import edu.hm.hafner.coverage.Metric;
 import edu.hm.hafner.coverage.ModuleNode;
 import edu.hm.hafner.coverage.Node;
+import edu.hm.hafner.coverage.PackageNode;
 import edu.hm.hafner.coverage.registry.ParserRegistry;
 import edu.hm.hafner.coverage.registry.ParserRegistry.CoverageParserType;
 import edu.hm.hafner.util.FilteredLog;
@@ -283,6 +285,60 @@ class CoverageMarkdownTest {
         verifyEmptyMutationScore(score);
     }
 
+    @Test
+    void shouldShowFilesThatLostCoverage() {
+        var configuration = """
+                {
+                  "coverage": {
+                      "tools": [
+                          {
+                            "id": "jacoco",
+                            "name": "Line Coverage",
+                            "metric": "line",
+                            "pattern": "target/jacoco.xml"
+                          }
+                        ]
+                  }
+                }
+                """;
+        var score = new AggregatedScore(LOG);
+
+        score.gradeCoverage(
+                new DeltaNodeSupplier(CoverageMarkdownTest::createReferenceFiles),
+                CoverageConfiguration.from(configuration), REFERENCE);
+
+        var lineCoverage = score.getCoverageScores().getFirst().getSubScores().getFirst();
+        assertThat(lineCoverage.getFileRegressions()).map(CoverageRegression::getName)
+                .containsExactly("edu/hm/Worse.java");
+        assertThat(lineCoverage.getPackageRegressions()).map(CoverageRegression::getName)
+                .containsExactly("edu/hm");
+        assertThat(score.getMetrics()).containsEntry("line-regressions", 1.0);
+
+        assertThat(clean(new CodeCoverageMarkdown().createDetails(score))).contains(
+                "Packages with coverage regressions:",
+                "- `edu/hm`: 70.00 (-10.00)",
+                "Files with coverage regressions:",
+                "- `edu/hm/Worse.java`: 60.00 (-20.00)");
+    }
+
+    static ModuleNode createReferenceFiles(final ToolConfiguration tool, final String directory) {
+        var root = new ModuleNode(directory);
+        var packageNode = new PackageNode("edu/hm");
+        root.addChild(packageNode);
+        packageNode.addChild(createFile("Stable.java", 80));
+        packageNode.addChild(createFile("Worse.java", REFERENCE.equals(directory) ? 80 : 60));
+        root.addValue(new CoverageBuilder().withMetric(Metric.LINE)
+                .withCovered(REFERENCE.equals(directory) ? 160 : 140).withMissed(40).build());
+        return root;
+    }
+
+    private static FileNode createFile(final String name, final int covered) {
+        var file = new FileNode(name, "edu/hm/" + name);
+        file.addValue(new CoverageBuilder().withMetric(Metric.LINE)
+                .withCovered(covered).withMissed(100 - covered).build());
+        return file;
+    }
+
     @Test
     void shouldShowScoreWithTwoResults() {
         var configuration = """
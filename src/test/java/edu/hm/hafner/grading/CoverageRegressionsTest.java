@@ -0,0 +1,67 @@
+package edu.hm.hafner.grading;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.coverage.Coverage.CoverageBuilder;
+import edu.hm.hafner.coverage.FileNode;
+import edu.hm.hafner.coverage.Metric;
+import edu.hm.hafner.coverage.ModuleNode;
+import edu.hm.hafner.coverage.PackageNode;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CoverageRegressionsTest {
+    @Test
+    void shouldFindFilesAndPackagesThatLostCoverage() {
+        var reference = new ModuleNode("reference");
+        addFile(reference, "edu/hm", "Stable.java", 80);
+        addFile(reference, "edu/hm", "Worse.java", 90);
+        addFile(reference, "edu/hm/util", "Worst.java", 100);
+        addFile(reference, "edu/hm/util", "Better.java", 10);
+        addFile(reference, "edu/hm/util", "Removed.java", 100);
+
+        var current = new ModuleNode("current");
+        addFile(current, "edu/hm", "Stable.java", 80);
+        addFile(current, "edu/hm", "Worse.java", 85);
+        addFile(current, "edu/hm/util", "Worst.java", 50);
+        addFile(current, "edu/hm/util", "Better.java", 60);
+        addFile(current, "edu/hm/util", "Added.java", 0);
+
+        var regressions = CoverageRegressions.compute(current, reference, Metric.LINE);
+
+        assertThat(regressions.getFiles()).map(CoverageRegression::getName)
+                .containsExactly("edu/hm/util/Worst.java", "edu/hm/Worse.java");
+        var worst = regressions.getFiles().getFirst();
+        assertThat(worst.getCoveredPercentage()).isEqualTo(50.0);
+        assertThat(worst.getReferencePercentage()).isEqualTo(100.0);
+        assertThat(worst.getCoveredPercentageDelta()).isEqualTo(-50.0);
+        assertThat(worst.getMissedItemsDelta()).isEqualTo(50);
+        assertThat(worst).hasToString("edu/hm/util/Worst.java: 50.00% (-50.00%)");
+
+        assertThat(regressions.getPackages()).map(CoverageRegression::getName)
+                .containsExactly("edu/hm/util", "edu/hm");
+
+        assertThat(CoverageRegressions.compute(current, reference, Metric.BRANCH).getFiles())
+                .as("No branch coverage available").isEmpty();
+        assertThat(CoverageRegressions.merge(List.of(regressions, CoverageRegressions.EMPTY, regressions)).getFiles())
+                .hasSize(4);
+    }
+
+    private void addFile(final ModuleNode root, final String packageName, final String fileName,
+            final int covered) {
+        var packageNode = root.getChildren().stream()
+                .filter(child -> child.getName().equals(packageName))
+                .findAny()
+                .orElseGet(() -> {
+                    var created = new PackageNode(packageName);
+                    root.addChild(created);
+                    return created;
+                });
+        var file = new FileNode(fileName, packageName + "/" + fileName);
+        file.addValue(new CoverageBuilder().withMetric(Metric.LINE)
+                .withCovered(covered).withMissed(100 - covered).build());
+        packageNode.addChild(file);
+    }
+}
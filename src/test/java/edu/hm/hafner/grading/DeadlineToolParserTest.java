@@ -0,0 +1,117 @@
+package edu.hm.hafner.grading;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.coverage.ModuleNode;
+import edu.hm.hafner.coverage.Node;
+import edu.hm.hafner.util.FilteredLog;
+
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static edu.hm.hafner.grading.ScoreBuilder.*;
+import static org.assertj.core.api.Assertions.*;
+
+class DeadlineToolParserTest {
+    private static final ToolConfiguration TOOL = new ToolConfiguration("pmd", "PMD", "**/pmd.xml", "", "", "", "");
+    private static final ToolConfiguration TOOL_WITH_TIMEOUT
+            = new ToolConfiguration("pmd", "PMD", "**/pmd.xml", "", "", "", "", 1);
+
+    @Test
+    void shouldUseParserIfThereIsNoDeadline() {
+        var parser = new StubParser(0);
+
+        assertThat(DeadlineToolParser.create(parser, TOOL, null)).isSameAs(parser);
+        assertThat(DeadlineToolParser.unwrap(parser)).isSameAs(parser);
+    }
+
+    @Test
+    void shouldReadReportsBeforeDeadline() {
+        var parser = new StubParser(0);
+        var deadlineParser = DeadlineToolParser.create(parser, TOOL_WITH_TIMEOUT, null);
+        assertThat(DeadlineToolParser.unwrap(deadlineParser)).isSameAs(parser);
+
+        var log = new FilteredLog("Errors");
+        assertThat(deadlineParser.readReport(TOOL_WITH_TIMEOUT, NO_DELTA_REPORTS, NO_DELTA_REPORTS, log))
+                .hasSize(1);
+        assertThat(deadlineParser.readNode(TOOL_WITH_TIMEOUT, NO_DELTA_REPORTS, NO_DELTA_REPORTS, log).getName())
+                .isEqualTo("stub");
+        assertThat(deadlineParser.readRetainedIssues(TOOL_WITH_TIMEOUT, NO_DELTA_REPORTS, NO_DELTA_REPORTS, log)
+                .getReport()).hasSize(1);
+        assertThat(log.getInfoMessages()).containsExactly("Reading report", "Reading node", "Reading report");
+        assertThat(log.hasErrors()).isFalse();
+        assertThat(DeadlineToolParser.isTimedOut(deadlineParser)).isFalse();
+    }
+
+    @Test
+    void shouldCancelReadingAfterToolTimeout() throws InterruptedException {
+        var parser = new StubParser(10_000);
+        var deadlineParser = DeadlineToolParser.create(parser, TOOL_WITH_TIMEOUT, Instant.now().plusSeconds(3600));
+
+        var log = new FilteredLog("Errors");
+        var report = deadlineParser.readReport(TOOL_WITH_TIMEOUT, NO_DELTA_REPORTS, NO_DELTA_REPORTS, log);
+
+        assertThat(report).isEmpty();
+        assertThat(report.getId()).isEqualTo("pmd");
+        assertThat(log.getErrorMessages()).anySatisfy(message -> assertThat(message)
+                .startsWith("Cancelled reading the reports of PMD"));
+        assertThat(log.getInfoMessages()).as("Messages of the cancelled parser should be skipped").isEmpty();
+        assertThat(parser.interrupted.await(10, TimeUnit.SECONDS)).as("Parser should be interrupted").isTrue();
+        assertThat(DeadlineToolParser.isTimedOut(deadlineParser)).isTrue();
+    }
+
+    @Test
+    void shouldSkipToolsAfterOverallDeadline() {
+        var parser = new StubParser(0);
+        var deadlineParser = DeadlineToolParser.create(parser, TOOL, Instant.now().minusSeconds(1));
+
+        var log = new FilteredLog("Errors");
+        var node = deadlineParser.readNode(TOOL, NO_DELTA_REPORTS, NO_DELTA_REPORTS, log);
+
+        assertThat(node.getChildren()).isEmpty();
+        assertThat(log.getErrorMessages()).contains("Skipping PMD: the deadline for grading has been exceeded");
+        assertThat(DeadlineToolParser.isTimedOut(deadlineParser)).isTrue();
+    }
+
+    private static class StubParser implements ToolParser {
+        private final long delay;
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+
+        StubParser(final long delay) {
+            this.delay = delay;
+        }
+
+        @Override
+        public Report readReport(final ToolConfiguration tool, final String directory, final String excluded,
+                final FilteredLog log) {
+            log.logInfo("Reading report");
+            waitForDelay();
+            var report = new Report(tool.getId(), tool.getName());
+            try (var builder = new IssueBuilder()) {
+                report.add(builder.setMessage("Issue").build());
+            }
+            return report;
+        }
+
+        @Override
+        public Node readNode(final ToolConfiguration configuration, final String directory, final String excluded,
+                final FilteredLog log) {
+            log.logInfo("Reading node");
+            waitForDelay();
+            return new ModuleNode("stub");
+        }
+
+        private void waitForDelay() {
+            try {
+                Thread.sleep(delay);
+            }
+            catch (InterruptedException exception) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
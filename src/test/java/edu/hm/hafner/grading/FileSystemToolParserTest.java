@@ -1,18 +1,28 @@
 package edu.hm.hafner.grading;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.coverage.FileNode;
 import edu.hm.hafner.coverage.Metric;
+import edu.hm.hafner.coverage.Node;
 import edu.hm.hafner.util.FilteredLog;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import static edu.hm.hafner.grading.ScoreBuilder.*;
 import static org.assertj.core.api.Assertions.*;
@@ -64,6 +74,8 @@ class FileSystemToolParserTest {
             }
             """;
     private static final int EXPECTED_ISSUES = 6 + 4 + 2 + 1;
+    private static final String CHECKSTYLE_FILE
+            = "X:/Build/Results/jobs/Maven/workspace/tasks/src/main/java/hudson/plugins/tasks/parser/CsharpNamespaceDetector.java";
     private static final String COVERAGE_CONFIGURATION = """
             {
               "coverage": [
@@ -243,6 +255,131 @@ class FileSystemToolParserTest {
                 "Error Prone (Whole Project) - 87 of 100: 1 bug — normal: 1");
     }
 
+    @Test
+    void shouldReuseParsedReportForDifferentScopes() {
+        var parser = new FileSystemToolParser(Map.of(CHECKSTYLE_FILE, Set.of(17)));
+
+        var log = new FilteredLog("Errors");
+        var changedCode = parser.readReport(createCheckStyle("modified_lines"), NO_DELTA_REPORTS, NO_DELTA_REPORTS, log);
+        assertThat(changedCode.getSize()).isEqualTo(1);
+
+        var project = parser.readReport(createCheckStyle("project"), NO_DELTA_REPORTS, NO_DELTA_REPORTS, log);
+        assertThat(project.getSize()).isEqualTo(6);
+        assertThat(project.stream()).noneMatch(Issue::isPartOfModifiedCode);
+
+        var modifiedFiles = parser.readReport(createCheckStyle("modified_files"), NO_DELTA_REPORTS, NO_DELTA_REPORTS, log);
+        assertThat(modifiedFiles.getSize()).isEqualTo(6);
+
+        assertThat(log.getInfoMessages()).contains(
+                "-> CheckStyle (checkstyle): 1 warning (error: 1) [Changed Code]",
+                "-> CheckStyle (checkstyle): 6 warnings (error: 6) [Whole Project]",
+                "-> CheckStyle (checkstyle): 6 warnings (error: 6) [Modified Files]");
+    }
+
+    @Test
+    void shouldMarkModifiedCodeInProjectScopeForRetention() {
+        var parser = new FileSystemToolParser(Map.of(CHECKSTYLE_FILE, Set.of(17)));
+        var tool = new ToolConfiguration("checkstyle", "", "**/src/**/checkstyle*.xml", "", "", "project", "",
+                0, "modified", 1);
+
+        var log = new FilteredLog("Errors");
+        var project = parser.readReport(tool, NO_DELTA_REPORTS, NO_DELTA_REPORTS, log);
+        assertThat(project.getSize()).isEqualTo(6);
+        assertThat(project.stream().filter(Issue::isPartOfModifiedCode)).hasSize(1);
+        assertThat(IssueRetention.MODIFIED.retain(project, tool.getMaxIssues())).hasSize(2);
+
+        var unmarked = parser.readReport(createCheckStyle("project"), NO_DELTA_REPORTS, NO_DELTA_REPORTS, log);
+        assertThat(unmarked.stream()).noneMatch(Issue::isPartOfModifiedCode);
+    }
+
+    @Test
+    void shouldDiscardSurplusIssuesWhileReadingReports() {
+        var parser = new FileSystemToolParser(Map.of(CHECKSTYLE_FILE, Set.of(17)));
+
+        var log = new FilteredLog("Errors");
+        var modified = parser.readRetainedIssues(createCheckStyle("modified", 1),
+                NO_DELTA_REPORTS, NO_DELTA_REPORTS, log);
+        assertThat(modified.getReport()).hasSize(2);
+        assertThat(modified.getReport().stream().filter(Issue::isPartOfModifiedCode)).hasSize(1);
+        assertThat(modified.getSizeOf(Severity.ERROR)).isEqualTo(6);
+        assertThat(modified.getTotalSize()).isEqualTo(6);
+
+        var counters = parser.readRetainedIssues(createCheckStyle("counters", 0),
+                NO_DELTA_REPORTS, NO_DELTA_REPORTS, log);
+        assertThat(counters.getReport()).isEmpty();
+        assertThat(counters.getSizeOf(Severity.ERROR)).isEqualTo(6);
+
+        var all = parser.readRetainedIssues(createCheckStyle("project"), NO_DELTA_REPORTS, NO_DELTA_REPORTS, log);
+        assertThat(all.getReport()).hasSize(6);
+
+        assertThat(log.getInfoMessages()).contains(
+                "-> Retained 2 of 6 issues",
+                "-> Retained 0 of 6 issues");
+    }
+
+    private ToolConfiguration createCheckStyle(final String retention, final int maxIssues) {
+        return new ToolConfiguration("checkstyle", "", "**/src/**/checkstyle*.xml", "", "", "project", "",
+                0, retention, maxIssues);
+    }
+
+    private ToolConfiguration createCheckStyle(final String scope) {
+        return new ToolConfiguration("checkstyle", "", "**/src/**/checkstyle*.xml", "", "", scope, "");
+    }
+
+    @Test
+    void shouldReuseParsedNodeForDifferentScopes() {
+        var parser = new FileSystemToolParser(Map.of(
+                "src/main/java/edu/hm/hafner/grading/AutoGradingAction.java", Set.of(42, 146)));
+
+        var log = new FilteredLog("Errors");
+        var changedCode = parser.readNode(createJacoco("branch", "modified_lines"), NO_DELTA_REPORTS, NO_DELTA_REPORTS, log);
+        var project = parser.readNode(createJacoco("line", "project"), NO_DELTA_REPORTS, NO_DELTA_REPORTS, log);
+        var modifiedFiles = parser.readNode(createJacoco("line", "modified_files"), NO_DELTA_REPORTS, NO_DELTA_REPORTS, log);
+
+        assertThat(changedCode.getAllFileNodes()).extracting(FileNode::getName).containsExactly("AutoGradingAction.java");
+        assertFileNodes(project.getAllFileNodes());
+        assertThat(modifiedFiles.getAllFileNodes()).extracting(FileNode::getName).containsExactly("AutoGradingAction.java");
+        assertThat(log.getInfoMessages()).contains(
+                "-> Branch Coverage Total: 50.00% [Changed Code]",
+                "-> Line Coverage Total: 10.93% [Whole Project]",
+                "-> Line Coverage Total: 10.00% [Modified Files]");
+    }
+
+    @Test
+    void shouldLogParsedFilesInSortedOrder() {
+        var log = new FilteredLog("Errors");
+        var node = new FileSystemToolParser().readNode(createTests("TEST*.xml"), NO_DELTA_REPORTS, NO_DELTA_REPORTS, log);
+
+        assertThat(node.getAll(Metric.MODULE)).hasSize(3);
+        assertThat(log.getInfoMessages()).filteredOn(message -> message.startsWith("- ")).map(
+                message -> message.substring(0, message.indexOf(':'))).containsExactly(
+                "- src/test/resources/edu/hm/hafner/grading/test-results/TEST-edu.hm.hafner.java2.assignment1.ArchitectureTest.xml",
+                "- src/test/resources/edu/hm/hafner/grading/test-results/TEST-edu.hm.hafner.java2.assignment1.AssignmentTest.xml",
+                "- src/test/resources/edu/hm/hafner/grading/test-results/TEST-edu.hm.hafner.java2.assignment1.ExamTest.xml");
+    }
+
+    @Test
+    void shouldMergeNodesIncrementally() {
+        var log = new FilteredLog("Errors");
+        var parser = new FileSystemToolParser();
+
+        var aggregation = parser.readNode(createTests("TEST*.xml"), NO_DELTA_REPORTS, NO_DELTA_REPORTS, log);
+
+        var nodes = Stream.of("ArchitectureTest", "AssignmentTest", "ExamTest")
+                .map(name -> parser.readNode(createTests("TEST-*." + name + ".xml"), NO_DELTA_REPORTS, NO_DELTA_REPORTS, log))
+                .map(container -> container.getChildren().get(0))
+                .toList();
+        assertThat(aggregation.getChildren()).containsExactly(Node.merge(nodes));
+    }
+
+    private ToolConfiguration createTests(final String fileName) {
+        return new ToolConfiguration("junit", "Tests", "**/src/**/test-results/" + fileName, "", "", "project", "");
+    }
+
+    private ToolConfiguration createJacoco(final String metric, final String scope) {
+        return new ToolConfiguration("jacoco", "", "**/src/**/jacoco.xml", metric, "", scope, "src/main/java");
+    }
+
     @Test
     void shouldFilterNodesByModifiedLinesInSingleModuleProject() {
         var log = new FilteredLog("Errors");
@@ -490,4 +627,57 @@ class FileSystemToolParserTest {
         assertThat(reportFinder.hasModifiedLines()).isTrue();
         assertThat(reportFinder.getModifiedLines()).containsExactlyInAnyOrder(29, 36, 40);
     }
+
+    @Test
+    void shouldReadCompressedReportsFromArchives(@TempDir final Path folder) throws IOException {
+        var checkstyle = Path.of("src/test/resources/edu/hm/hafner/grading/checkstyle.xml");
+        var archive = folder.resolve("reports.zip");
+        try (var zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+            zip.putNextEntry(new ZipEntry("target/checkstyle.xml"));
+            Files.copy(checkstyle, zip);
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("target/checkstyle-other.xml.gz"));
+            var compressed = new GZIPOutputStream(zip);
+            Files.copy(checkstyle, compressed);
+            compressed.finish();
+            zip.closeEntry();
+        }
+
+        var log = new FilteredLog("Errors");
+        try (var parser = new FileSystemToolParser()) {
+            var report = parser.readReport(
+                    new ToolConfiguration("checkstyle", "", "**/checkstyle*.xml", "", "", "project", ""),
+                    archive.toString(), NO_DELTA_REPORTS, log);
+
+            assertThat(report).isNotEmpty();
+        }
+        assertThat(log.getErrorMessages()).isEmpty();
+        assertThat(log.getInfoMessages()).contains(
+                "- " + archive + "!/target/checkstyle-other.xml.gz: 6 warnings [Whole Project]",
+                "- " + archive + "!/target/checkstyle.xml: 6 warnings [Whole Project]");
+    }
+
+    @Test
+    void shouldSkipExcludedDirectoryInArchives(@TempDir final Path folder) throws IOException {
+        var checkstyle = Path.of("src/test/resources/edu/hm/hafner/grading/checkstyle.xml");
+        var archive = folder.resolve("reports.zip");
+        try (var zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+            zip.putNextEntry(new ZipEntry("target/checkstyle.xml"));
+            Files.copy(checkstyle, zip);
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("reference/checkstyle.xml"));
+            Files.copy(checkstyle, zip);
+            zip.closeEntry();
+        }
+
+        var log = new FilteredLog("Errors");
+        try (var parser = new FileSystemToolParser()) {
+            parser.readReport(new ToolConfiguration("checkstyle", "", "**/checkstyle*.xml", "", "", "project", ""),
+                    archive.toString(), archive.resolve("reference").toString(), log);
+        }
+
+        assertThat(log.getInfoMessages())
+                .contains("- " + archive + "!/target/checkstyle.xml: 6 warnings [Whole Project]")
+                .noneMatch(message -> message.contains("reference/checkstyle.xml"));
+    }
 }
@@ -0,0 +1,142 @@
+package edu.hm.hafner.grading;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static edu.hm.hafner.grading.Configuration.*;
+import static org.assertj.core.api.Assertions.*;
+
+class GradingDaemonTest {
+    private static final String CONFIGURATION = """
+            {
+              "analysis": [
+                {
+                  "name": "Style",
+                  "id": "style",
+                  "tools": [
+                    {
+                      "id": "checkstyle",
+                      "pattern": "**/grading/checkstyle.xml"
+                    }
+                  ],
+                  "errorImpact": -1,
+                  "maxScore": 100
+                }
+              ]
+            }
+            """;
+
+    @Test
+    void shouldGradeSeveralRequestsWithTheSameDaemon() throws IOException, InterruptedException {
+        try (var daemon = new GradingDaemon(0)) {
+            var server = new Thread(daemon::serve);
+            server.start();
+
+            var request = createRequest("src/test/resources/edu/hm/hafner");
+            var first = send(daemon, request);
+            assertThat(first).anySatisfy(line -> assertThat(line).contains("checkstyle.xml: 6 warnings"));
+            assertThat(first.get(first.size() - 1))
+                    .startsWith(GradingDaemon.SCORE_PREFIX)
+                    .contains("\"achievedScore\":94", "\"maxScore\":100", "\"qualityGates\":\"SUCCESS\"");
+
+            var second = send(daemon, createRequest("src/test/resources/edu/hm/hafner/grading/delta"));
+            assertThat(second.get(second.size() - 1)).contains("\"achievedScore\":100");
+
+            daemon.close();
+            server.join();
+        }
+    }
+
+    @Test
+    void shouldReportInvalidRequests() throws IOException, InterruptedException {
+        try (var daemon = new GradingDaemon(0)) {
+            var server = new Thread(daemon::serve);
+            server.start();
+
+            assertThat(send(daemon, "no json")).singleElement().asString()
+                    .startsWith("Grading request failed");
+
+            daemon.close();
+            server.join();
+        }
+    }
+
+    @Test
+    void shouldRejectRequestsWithoutValidToken() throws IOException, InterruptedException {
+        try (var daemon = new GradingDaemon(0, "secret")) {
+            var server = new Thread(daemon::serve);
+            server.start();
+
+            var request = createRequest("src/test/resources/edu/hm/hafner");
+            assertThat(send(daemon.getPort(), "wrong", request)).singleElement().asString()
+                    .isEqualTo("Grading request rejected: invalid access token");
+            assertThat(send(daemon.getPort(), "secret", request).get(0)).doesNotStartWith("Grading request rejected");
+
+            daemon.close();
+            server.join();
+        }
+    }
+
+    @Test
+    void shouldProcessRequestsWhileAnotherClientIsIdle() throws IOException, InterruptedException {
+        var previousWeight = SharedParseCache.getInstance().getMaxWeight();
+        var log = new ByteArrayOutputStream();
+        try (var daemon = new GradingDaemon(0, "secret", 1024, new PrintStream(log, true, StandardCharsets.UTF_8));
+                var idle = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort())) {
+            assertThat(SharedParseCache.getInstance().getMaxWeight()).isEqualTo(1024);
+
+            var server = new Thread(daemon::serve);
+            server.start();
+
+            var response = send(daemon.getPort(), "secret", createRequest("src/test/resources/edu/hm/hafner"));
+            assertThat(response.get(response.size() - 1)).contains("\"achievedScore\":94");
+            assertThat(idle.isClosed()).isFalse();
+
+            send(daemon.getPort(), "secret", "no json");
+            assertThat(log.toString(StandardCharsets.UTF_8)).contains("Grading request failed");
+
+            idle.close();
+            daemon.close();
+            server.join();
+        }
+        assertThat(SharedParseCache.getInstance().getMaxWeight()).as("The previous weight must be restored")
+                .isEqualTo(previousWeight);
+    }
+
+    @Test
+    void shouldRequireToken() {
+        assertThatThrownBy(() -> new GradingDaemon(0, " ")).hasMessageContaining("access token");
+    }
+
+    private String createRequest(final String workspace) {
+        return createMapper().createObjectNode()
+                .put("workspace", workspace)
+                .put("config", CONFIGURATION)
+                .toString();
+    }
+
+    private List<String> send(final GradingDaemon daemon, final String request) throws IOException {
+        return send(daemon.getPort(), daemon.getToken(), request);
+    }
+
+    private List<String> send(final int port, final String token, final String request) throws IOException {
+        try (var socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            var output = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            output.println(token);
+            output.println(request);
+
+            var input = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            return input.lines().collect(Collectors.toList());
+        }
+    }
+}
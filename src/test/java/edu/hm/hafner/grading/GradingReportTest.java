@@ -5,6 +5,7 @@ import org.junitpioneer.jupiter.DefaultLocale;
 
 import edu.hm.hafner.util.FilteredLog;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import static edu.hm.hafner.grading.ScoreBuilder.*;
@@ -181,6 +182,74 @@ class GradingReportTest {
                 "|Mutation Coverage|Whole Project|60");
     }
 
+    @Test
+    void shouldLimitSizeOfDetails() {
+        var results = new GradingReport();
+
+        var score = AggregatedScoreTest.createQualityAggregation();
+
+        var details = results.getMarkdownDetails(score, "Title", false);
+        assertThat(results.getMarkdownDetails(score, "Title", false, details.length())).isEqualTo(details);
+
+        var maxSize = details.length() / 2;
+        assertThat(results.getMarkdownDetails(score, "Title", false, maxSize))
+                .hasSizeLessThanOrEqualTo(maxSize)
+                .startsWith("# :sunny: &nbsp; Title")
+                .contains("|Integrationstests|Whole Project|5|3|4|:x:");
+
+        assertThat(results.getMarkdownDetails(score, "Title", false, 400))
+                .hasSizeLessThanOrEqualTo(400)
+                .startsWith("# :sunny: &nbsp; Title")
+                .contains("_Test Score: details omitted due to the size limit_");
+        assertThat(results.getMarkdownDetails(score, "Title", false, 10))
+                .isEqualTo("# :sunny: ");
+    }
+
+    @Test
+    void shouldUseWholeBudgetForLargeSections() {
+        var score = new AggregatedScore(new FilteredLog("Tests"));
+        score.gradeTests(new NodeSupplier(tool -> TestScoreTest.createTestReport(0, 0, 2_000)),
+                TestConfiguration.from("""
+                {
+                  "tests": {
+                    "tools": [
+                        {
+                          "id": "junit",
+                          "name": "JUnit",
+                          "pattern": "target/junit.xml"
+                        }
+                      ],
+                    "successRateImpact": 1,
+                    "maxScore": 100
+                  }
+                }
+                """), NO_DELTA_REPORTS);
+
+        var details = new GradingReport().getMarkdownDetails(score, "Title", false);
+        assertThat(details)
+                .hasSizeGreaterThan(ScoreMarkdown.MARKDOWN_MAX_SIZE)
+                .hasSizeLessThanOrEqualTo(MarkdownBudget.GITHUB_MAX_SIZE)
+                .contains("test-failed-0");
+    }
+
+    @Test
+    void shouldRenderSameMarkdownConcurrently() {
+        var concurrent = new GradingReport();
+        var serial = new GradingReport(false);
+
+        for (AggregatedScore score : List.of(new AggregatedScore(), new AggregatedScoreTest().createSerializable(),
+                AggregatedScoreTest.createQualityAggregation(), AnalysisMarkdownTest.createScoreForTwoResults())) {
+            assertThat(concurrent.getMarkdownDetails(score, "Title", true))
+                    .isEqualTo(serial.getMarkdownDetails(score, "Title", true));
+            assertThat(concurrent.getMarkdownDetails(score, "Title", false, 2000))
+                    .isEqualTo(serial.getMarkdownDetails(score, "Title", false, 2000));
+            assertThat(concurrent.getMarkdownSummary(score, "Summary", true))
+                    .isEqualTo(serial.getMarkdownSummary(score, "Summary", true));
+            assertThat(concurrent.getMarkdownSummary(score, "Summary"))
+                    .isEqualTo(serial.getMarkdownSummary(score, "Summary"));
+        }
+    }
+
     private void assertThatReferenceIsMissing(final GradingReport results, final AggregatedScore score) {
         assertThat(results.getMarkdownSummary(score, "Summary"))
                 .doesNotContain("## :pushpin: Reference Results");
@@ -0,0 +1,79 @@
+package edu.hm.hafner.grading;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+
+import static edu.hm.hafner.grading.AnalysisScoreTest.*;
+import static org.assertj.core.api.Assertions.*;
+
+class IssueDeltaTest {
+    @Test
+    void shouldClassifyIssues() {
+        var current = createReportWith(Severity.ERROR, Severity.WARNING_HIGH, Severity.WARNING_NORMAL);
+        var reference = createReportWith(Severity.ERROR, Severity.WARNING_LOW, Severity.WARNING_NORMAL,
+                Severity.WARNING_LOW);
+
+        var delta = IssueDelta.compute(current, reference);
+
+        assertThat(delta.getNewSize()).isEqualTo(1);
+        assertThat(delta.getOutstandingSize()).isEqualTo(2);
+        assertThat(delta.getFixedSize()).isEqualTo(2);
+        assertThat(current.stream().filter(delta::isNew).map(Issue::getSeverity))
+                .containsExactly(Severity.WARNING_HIGH);
+    }
+
+    @Test
+    void shouldIgnoreLineNumbers() {
+        var current = createReport(10);
+        var reference = createReport(5);
+
+        var delta = IssueDelta.compute(current, reference);
+
+        assertThat(delta.getNewSize()).isZero();
+        assertThat(delta.getOutstandingSize()).isEqualTo(1);
+        assertThat(delta.getFixedSize()).isZero();
+    }
+
+    @Test
+    void shouldMatchDuplicateIssuesOneByOne() {
+        var current = createReport(1, 2, 3);
+        var reference = createReport(1);
+
+        var delta = IssueDelta.compute(current, reference);
+
+        assertThat(delta.getNewSize()).isEqualTo(2);
+        assertThat(delta.getOutstandingSize()).isEqualTo(1);
+        assertThat(delta.getFixedSize()).isZero();
+
+        var fixed = IssueDelta.compute(reference, current);
+        assertThat(fixed.getNewSize()).isZero();
+        assertThat(fixed.getOutstandingSize()).isEqualTo(1);
+        assertThat(fixed.getFixedSize()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldTreatAllIssuesAsNewWithoutReference() {
+        var current = createReport(1, 2);
+
+        var delta = IssueDelta.compute(current, new Report());
+
+        assertThat(delta.getNewSize()).isEqualTo(2);
+        assertThat(current.stream()).allMatch(delta::isNew);
+        assertThat(IssueDelta.EMPTY.getNewSize()).isZero();
+    }
+
+    private Report createReport(final int... lines) {
+        var report = new Report("checkstyle", "CheckStyle");
+        try (var builder = new IssueBuilder()) {
+            builder.setFileName("File.java").setType("Type").setMessage("Message").setOrigin("checkstyle");
+            for (int line : lines) {
+                report.add(builder.setLineStart(line).build());
+            }
+        }
+        return report;
+    }
+}
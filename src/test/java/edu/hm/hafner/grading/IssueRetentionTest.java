@@ -0,0 +1,74 @@
+package edu.hm.hafner.grading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssuesInModifiedCodeMarker;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IssueRetentionTest {
+    private static final String MODIFIED_FILE = "Modified.java";
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"", " ", "all", "ALL"})
+    void shouldRetainAllIssuesByDefault(final String value) {
+        assertThat(IssueRetention.fromString(value)).isEqualTo(IssueRetention.ALL);
+    }
+
+    @Test
+    void shouldConvertStrings() {
+        assertThat(IssueRetention.fromString("modified")).isEqualTo(IssueRetention.MODIFIED);
+        assertThat(IssueRetention.fromString("diff")).isEqualTo(IssueRetention.MODIFIED);
+        assertThat(IssueRetention.fromString("counters")).isEqualTo(IssueRetention.COUNTERS);
+        assertThat(IssueRetention.fromString("none")).isEqualTo(IssueRetention.COUNTERS);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> IssueRetention.fromString("wrong"))
+                .withMessageContaining("No such issue retention available: wrong");
+    }
+
+    @Test
+    void shouldRetainIssuesAccordingToPolicy() {
+        var report = createReport();
+
+        assertThat(IssueRetention.ALL.retain(report, 0)).isSameAs(report);
+
+        var counters = IssueRetention.COUNTERS.retain(report, 10);
+        assertThat(counters).isEmpty();
+        assertThat(counters.getId()).isEqualTo(report.getId());
+        assertThat(report).hasSize(6);
+
+        assertThat(IssueRetention.MODIFIED.retain(report, 1).stream().filter(Issue::isPartOfModifiedCode))
+                .hasSize(1);
+        assertThat(IssueRetention.MODIFIED.retain(report, 1).stream().map(Issue::getSeverity))
+                .containsExactlyInAnyOrder(Severity.WARNING_LOW, Severity.ERROR);
+        assertThat(IssueRetention.MODIFIED.retain(report, 0)).as("Default maximum").hasSize(6);
+        assertThat(IssueRetention.MODIFIED.retain(report, 2).stream().map(Issue::getSeverity))
+                .containsExactlyInAnyOrder(Severity.WARNING_LOW, Severity.ERROR, Severity.WARNING_HIGH);
+        assertThat(IssueRetention.MODIFIED.retain(report, 100)).hasSize(6);
+    }
+
+    private Report createReport() {
+        var report = new Report("checkstyle", "CheckStyle");
+        try (var builder = new IssueBuilder()) {
+            builder.setLineStart(1);
+            report.add(builder.setFileName(MODIFIED_FILE).setMessage("modified")
+                    .setSeverity(Severity.WARNING_LOW).build());
+            report.add(builder.setFileName("Other.java").setMessage("low").build());
+            report.add(builder.setMessage("normal").setSeverity(Severity.WARNING_NORMAL).build());
+            report.add(builder.setMessage("high").setSeverity(Severity.WARNING_HIGH).build());
+            report.add(builder.setMessage("error").setSeverity(Severity.ERROR).build());
+            report.add(builder.setMessage("another normal").setSeverity(Severity.WARNING_NORMAL).build());
+        }
+        new IssuesInModifiedCodeMarker().markIssuesInModifiedCode(report, Map.of(MODIFIED_FILE, Set.of(1)));
+        return report;
+    }
+}
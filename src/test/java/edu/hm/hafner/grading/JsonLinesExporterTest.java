@@ -0,0 +1,81 @@
+package edu.hm.hafner.grading;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JsonLinesExporterTest {
+    private static final JsonMapper MAPPER = JsonMapper.builder().build();
+
+    @Test
+    void shouldExportEmptyScore() {
+        var lines = export(new AggregatedScore());
+
+        assertThat(lines).hasSize(1).first().satisfies(line -> {
+            assertThat(line.get("type").asString()).isEqualTo("aggregation");
+            assertThat(line.get("maxScore").asInt()).isZero();
+        });
+    }
+
+    @Test
+    void shouldExportScoresIssuesFailuresAndMissedLines() {
+        var score = AggregatedScoreTest.createQualityAggregation();
+
+        var lines = export(score);
+
+        assertThat(lines.getFirst().get("type").asString()).isEqualTo("aggregation");
+        assertThat(lines).extracting(line -> line.get("type").asString())
+                .containsOnly("aggregation", "score", "tool", "issue", "failure", "missedLines")
+                .contains("score", "tool");
+
+        var scores = score.getTestScores().size() + score.getCoverageScores().size()
+                + score.getAnalysisScores().size() + score.getMetricScores().size();
+        assertThat(filter(lines, "score")).hasSize(scores);
+        assertThat(filter(lines, "issue")).hasSize(score.getIssues().size())
+                .allSatisfy(issue -> assertThat(issue.get("tool").asString()).isIn("Checkstyle", "SpotBugs"));
+        assertThat(filter(lines, "failure")).hasSize(score.getTestScores().stream()
+                .map(Score::getSubScores).flatMap(List::stream)
+                .mapToInt(testScore -> testScore.getFailures().size()).sum());
+        assertThat(filter(lines, "tool")).allSatisfy(tool -> {
+            assertThat(tool.get("score").asString()).isNotBlank();
+            assertThat(tool.has("value")).isTrue();
+        });
+    }
+
+    @Test
+    void shouldNotCloseStream() {
+        var output = new ByteArrayOutputStream() {
+            private boolean closed;
+
+            @Override
+            public void close() {
+                closed = true;
+            }
+        };
+
+        new JsonLinesExporter().export(new AggregatedScore(), output);
+
+        assertThat(output.closed).isFalse();
+        assertThat(output.toString(StandardCharsets.UTF_8)).endsWith("}\n");
+    }
+
+    private List<JsonNode> filter(final List<JsonNode> lines, final String type) {
+        return lines.stream().filter(line -> type.equals(line.get("type").asString())).toList();
+    }
+
+    private List<JsonNode> export(final AggregatedScore score) {
+        var output = new ByteArrayOutputStream();
+        new JsonLinesExporter().export(score, output);
+
+        var text = output.toString(StandardCharsets.UTF_8);
+        assertThat(text).endsWith("\n").doesNotContain("\n\n");
+
+        return text.lines().map(MAPPER::readTree).toList();
+    }
+}
@@ -0,0 +1,38 @@
+package edu.hm.hafner.grading;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MarkdownBudgetTest {
+    @Test
+    void shouldAllocateAllNeedsIfBudgetIsSufficient() {
+        var budget = new MarkdownBudget(1000);
+
+        assertThat(budget.allocate(100, 0, 200)).containsExactly(100, 0, 200);
+        assertThat(budget.allocate(1000)).containsExactly(1000);
+        assertThat(budget.allocate()).isEmpty();
+    }
+
+    @Test
+    void shouldShareUnusedCharactersWithLargeSections() {
+        var budget = new MarkdownBudget(300);
+
+        assertThat(budget.allocate(500, 50, 500)).containsExactly(125, 50, 125);
+        assertThat(budget.allocate(500, 50, 100)).containsExactly(150, 50, 100);
+        assertThat(budget.allocate(500, 50, 180)).containsExactly(125, 50, 125);
+    }
+
+    @Test
+    void shouldGiveRemainderToHighestPriority() {
+        var budget = new MarkdownBudget(101);
+
+        assertThat(budget.allocate(100, 100)).containsExactly(51, 50);
+        assertThat(budget.allocate(100, 200, 300)).containsExactly(35, 33, 33);
+    }
+
+    @Test
+    void shouldRejectNegativeBudget() {
+        assertThatThrownBy(() -> new MarkdownBudget(-1)).hasMessageContaining("The total size must not be negative");
+    }
+}
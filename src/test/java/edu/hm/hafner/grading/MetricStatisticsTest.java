@@ -39,6 +39,26 @@ class MetricStatisticsTest {
         assertThat(statistics.hasValue(mutations)).isTrue();
     }
 
+    @Test
+    void shouldStoreCountsWithoutMetric() {
+        var statistics = new MetricStatistics();
+
+        var regressions = "line" + AggregatedScore.REGRESSIONS_SUFFIX;
+        statistics.add(3, Scope.PROJECT, regressions);
+
+        assertThat(statistics.hasValue(regressions)).isTrue();
+        assertThat(statistics.hasValue(regressions, Scope.MODIFIED_LINES)).isFalse();
+        assertThat(statistics.asDouble(regressions)).isEqualTo(3.0);
+        assertThat(statistics.asText(regressions, Locale.ENGLISH)).isEqualTo("3");
+        assertThat(statistics.asMap(Scope.PROJECT)).containsEntry(regressions, 3.0);
+        assertThat(statistics.asFormattedMap(Scope.PROJECT)).containsEntry(regressions, "3");
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> statistics.add(1, Scope.PROJECT, regressions));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> statistics.add(new Value(Metric.LOC, 1), Scope.PROJECT, regressions));
+    }
+
     @Test
     void shouldThrowExceptionsWhenIdIsInvalid() {
         var statistics = new MetricStatistics();
@@ -0,0 +1,53 @@
+package edu.hm.hafner.grading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.hm.hafner.analysis.Report;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ParseCacheTest {
+    @TempDir
+    private Path workspace;
+
+    @Test
+    void shouldParseCopiesOfReportOnlyOnceWithoutSharedCache() throws IOException {
+        var cache = new ParseCache(new SharedParseCache(0));
+        var first = Files.writeString(workspace.resolve("first.xml"), "<checkstyle/>");
+        var copy = Files.writeString(workspace.resolve("copy.xml"), "<checkstyle/>");
+        var other = Files.writeString(workspace.resolve("other.xml"), "<checkstyle version=\"1\"/>");
+        var parsed = new AtomicInteger();
+
+        var report = cache.getReport("checkstyle", first, file -> createReport(parsed));
+        assertThat(cache.getReport("checkstyle", copy, file -> createReport(parsed))).isSameAs(report);
+        assertThat(parsed).hasValue(1);
+
+        cache.getReport("checkstyle", other, file -> createReport(parsed));
+        assertThat(parsed).as("Other content must be parsed").hasValue(2);
+        cache.getReport("pmd", first, file -> createReport(parsed));
+        assertThat(parsed).as("Another parser must not use the cached result").hasValue(3);
+    }
+
+    @Test
+    void shouldUseLocationOfFilesThatCannotBeRead() {
+        var cache = new ParseCache(new SharedParseCache(0));
+        var missing = workspace.resolve("missing.xml");
+        var parsed = new AtomicInteger();
+
+        cache.getReport("checkstyle", missing, file -> createReport(parsed));
+        cache.getReport("checkstyle", missing, file -> createReport(parsed));
+
+        assertThat(parsed).hasValue(1);
+    }
+
+    private Report createReport(final AtomicInteger counter) {
+        counter.incrementAndGet();
+        return new Report("checkstyle", "CheckStyle");
+    }
+}
@@ -0,0 +1,106 @@
+package edu.hm.hafner.grading;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.util.FilteredLog;
+
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+import static edu.hm.hafner.grading.ScoreBuilder.*;
+import static org.assertj.core.api.Assertions.*;
+
+class ParsedResultsTest {
+    private static final String RUBRIC = """
+            {
+              "tests": {
+                "tools": [
+                  {
+                    "id": "junit",
+                    "name": "Unittests",
+                    "pattern": "**/src/**/test-results/TEST*.xml"
+                  }
+                ],
+                "name": "JUnit",
+                "maxScore": 100,
+                "failureRateImpact": %d
+              },
+              "analysis": [
+                {
+                  "name": "Style",
+                  "id": "style",
+                  "tools": [
+                    {
+                      "id": "checkstyle",
+                      "pattern": "**/src/**/checkstyle*.xml"
+                    }
+                  ],
+                  "errorImpact": %d,
+                  "maxScore": 100
+                }
+              ]
+            }
+            """;
+    private static final Path WORKSPACE = Path.of(".");
+
+    @Test
+    void shouldApplyNewRubricWithoutReadingReportsAgain() {
+        var parsed = ParsedResults.parse(createRubric(-1, -1), WORKSPACE, new FilteredLog("Errors"));
+
+        var log = new FilteredLog("Errors");
+        var score = parsed.grade(createRubric(-1, -1), log);
+        assertThat(score.getAnalysisAchievedScore()).isEqualTo(94);
+        assertThat(log.getInfoMessages()).contains(
+                "- src/test/resources/edu/hm/hafner/grading/checkstyle.xml: 6 warnings [Whole Project]");
+
+        var strict = parsed.grade(createRubric(-2, -2), new FilteredLog("Errors"));
+        assertThat(strict.getAnalysisAchievedScore()).isEqualTo(88);
+        assertThat(strict.getTestScores()).hasSize(1);
+        assertThat(strict.getTestScores().get(0).getTotalSize())
+                .isEqualTo(score.getTestScores().get(0).getTotalSize());
+        assertThat(strict.getTestAchievedScore()).isLessThanOrEqualTo(score.getTestAchievedScore());
+    }
+
+    @Test
+    void shouldGradeDeserializedResults() {
+        var parsed = ParsedResults.parse(createRubric(-1, -1), WORKSPACE, new FilteredLog("Errors"));
+
+        var restored = SerializationUtils.roundtrip(parsed);
+
+        var score = restored.grade(createRubric(-3, -1), new FilteredLog("Errors"));
+        assertThat(score.getAnalysisAchievedScore()).isEqualTo(94);
+        assertThat(score.getTestScores().get(0).getTotalSize()).isPositive();
+    }
+
+    @Test
+    void shouldNotExposeTheRecordedReports() {
+        var parsed = ParsedResults.parse(createRubric(-1, -1), WORKSPACE, new FilteredLog("Errors"));
+        var tool = AnalysisConfiguration.from(createRubric(-1, -1)).getFirst().getTools().getFirst();
+
+        var first = parsed.readReport(tool, NO_DELTA_REPORTS, NO_DELTA_REPORTS, new FilteredLog("Errors"));
+        assertThat(first).hasSize(6);
+        try (var builder = new IssueBuilder()) {
+            first.add(builder.setFileName("Added.java").build());
+        }
+
+        var second = parsed.readReport(tool, NO_DELTA_REPORTS, NO_DELTA_REPORTS, new FilteredLog("Errors"));
+        assertThat(second).as("Scoring must not change the recorded report").hasSize(6).isNotSameAs(first);
+    }
+
+    @Test
+    void shouldRejectToolsThatHaveNotBeenParsed() {
+        var parsed = ParsedResults.parse(createRubric(-1, -1), WORKSPACE, new FilteredLog("Errors"));
+
+        var otherTool = createRubric(-1, -1).replace("checkstyle*.xml", "pmd*.xml");
+        var log = new FilteredLog("Errors");
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> parsed.grade(otherTool, log))
+                .withMessageContaining("pmd*.xml");
+    }
+
+    private String createRubric(final int failureRateImpact, final int errorImpact) {
+        return RUBRIC.formatted(failureRateImpact, errorImpact);
+    }
+}
@@ -0,0 +1,25 @@
+package edu.hm.hafner.grading;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ParserDescriptorsTest {
+    @Test
+    void shouldResolveParsersById() {
+        assertThat(ParserDescriptors.contains("checkstyle")).isTrue();
+        assertThat(ParserDescriptors.get("checkstyle").getName()).isEqualTo("CheckStyle");
+        assertThat(ParserDescriptors.find("checkstyle")).containsSame(ParserDescriptors.get("checkstyle"));
+    }
+
+    @Test
+    void shouldRejectUnknownParsers() {
+        assertThat(ParserDescriptors.contains("line")).isFalse();
+        assertThat(ParserDescriptors.find("line")).isEmpty();
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> ParserDescriptors.get("line"))
+                .withMessageContaining("line");
+    }
+}
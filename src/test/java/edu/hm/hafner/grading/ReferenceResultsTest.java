@@ -0,0 +1,76 @@
+package edu.hm.hafner.grading;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.coverage.ModuleNode;
+import edu.hm.hafner.util.FilteredLog;
+
+import static edu.hm.hafner.grading.ScoreBuilder.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReferenceResultsTest {
+    private static final String DELTA = "delta";
+    private static final FilteredLog LOG = new FilteredLog("Errors");
+
+    @Test
+    void shouldReadNodeOnlyOncePerParserAndPattern() {
+        var line = createTool("jacoco", "line", "**/jacoco.xml");
+        var sameLine = createTool("jacoco", "line", "**/jacoco.xml");
+        var branch = createTool("jacoco", "branch", "**/jacoco.xml");
+        var otherPattern = createTool("jacoco", "line", "**/other.xml");
+
+        var parser = mock(ToolParser.class);
+        var node = new ModuleNode("reference");
+        var otherNode = new ModuleNode("other");
+        when(parser.readNode(line, DELTA, NO_DELTA_REPORTS, LOG)).thenReturn(node);
+        when(parser.readNode(otherPattern, DELTA, NO_DELTA_REPORTS, LOG)).thenReturn(otherNode);
+
+        var references = new ReferenceResults(DELTA);
+        assertThat(references.isAvailable()).isTrue();
+
+        var first = references.getNode(parser, line, LOG);
+        var second = references.getNode(parser, sameLine, LOG);
+        assertThat(first).isEqualTo(node).isNotSameAs(node);
+        assertThat(second).as("Each score must get its own tree").isEqualTo(node).isNotSameAs(first);
+        assertThat(references.getNode(parser, branch, LOG)).as("The metric does not affect the reference tree")
+                .isEqualTo(node);
+        assertThat(references.getNode(parser, otherPattern, LOG)).as("The pattern affects the reference tree")
+                .isEqualTo(otherNode);
+
+        verify(parser, times(1)).readNode(line, DELTA, NO_DELTA_REPORTS, LOG);
+        verify(parser, never()).readNode(branch, DELTA, NO_DELTA_REPORTS, LOG);
+        verify(parser, times(1)).readNode(otherPattern, DELTA, NO_DELTA_REPORTS, LOG);
+        assertThat(LOG.getInfoMessages()).contains("Reusing reference results of 'jacoco' for pattern '**/jacoco.xml'");
+    }
+
+    @Test
+    void shouldReadReportAgainForDifferentParser() {
+        var checkstyle = createTool("checkstyle", "", "**/checkstyle.xml");
+
+        var first = mock(ToolParser.class);
+        var firstReport = new Report();
+        when(first.readReport(checkstyle, DELTA, NO_DELTA_REPORTS, LOG)).thenReturn(firstReport);
+        var second = mock(ToolParser.class);
+        var secondReport = new Report();
+        when(second.readReport(checkstyle, DELTA, NO_DELTA_REPORTS, LOG)).thenReturn(secondReport);
+
+        var references = new ReferenceResults(DELTA);
+        assertThat(references.getReport(first, checkstyle, LOG)).isEqualTo(firstReport).isNotSameAs(firstReport);
+        assertThat(references.getReport(first, checkstyle, LOG)).isEqualTo(firstReport);
+        assertThat(references.getReport(second, checkstyle, LOG)).isEqualTo(secondReport);
+
+        verify(first, times(1)).readReport(checkstyle, DELTA, NO_DELTA_REPORTS, LOG);
+        verify(second, times(1)).readReport(checkstyle, DELTA, NO_DELTA_REPORTS, LOG);
+    }
+
+    @Test
+    void shouldDetectMissingReferenceReports() {
+        assertThat(new ReferenceResults(NO_DELTA_REPORTS).isAvailable()).isFalse();
+    }
+
+    private ToolConfiguration createTool(final String id, final String metric, final String pattern) {
+        return new ToolConfiguration(id, "", pattern, metric, "", "project", "");
+    }
+}
@@ -0,0 +1,66 @@
+package edu.hm.hafner.grading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReportFingerprintsTest {
+    @TempDir
+    private Path workspace;
+
+    @Test
+    void shouldDetectCopiesOfReports() throws IOException {
+        var fingerprints = new ReportFingerprints();
+
+        var report = Path.of("src/test/resources/edu/hm/hafner/grading/checkstyle.xml");
+        var copy = Files.copy(report, workspace.resolve("copy.xml"));
+        var other = Path.of("src/test/resources/edu/hm/hafner/grading/pmd.xml");
+
+        assertThat(fingerprints.getFingerprint(copy))
+                .isEqualTo(fingerprints.getFingerprint(report))
+                .isNotEqualTo(fingerprints.getFingerprint(other));
+        assertThat(fingerprints.getFingerprint(report).getSize()).isEqualTo(Files.size(report));
+        assertThat(fingerprints.getFingerprint(report).toString()).as("Size and SHA-256 digest")
+                .matches(Files.size(report) + ":[0-9a-f]{64}");
+    }
+
+    @Test
+    void shouldMemoizeFingerprintsUntilFileChanges() throws IOException {
+        var fingerprints = new ReportFingerprints();
+
+        var file = Files.writeString(workspace.resolve("report.xml"), "<report/>");
+        var fingerprint = fingerprints.getFingerprint(file);
+        assertThat(fingerprints.getFingerprint(file)).isSameAs(fingerprint);
+
+        Files.writeString(file, "<other/>");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        assertThat(fingerprints.getFingerprint(file)).isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    void shouldHashLargeFilesInChunks() throws IOException {
+        var fingerprints = new ReportFingerprints();
+
+        var large = workspace.resolve("large.xml");
+        try (var file = new RandomAccessFile(large.toFile(), "rw")) {
+            file.setLength(ReportFingerprints.CHUNK_SIZE + 1000L);
+        }
+        var copy = Files.copy(large, workspace.resolve("copy.xml"));
+        assertThat(fingerprints.getFingerprint(copy)).isEqualTo(fingerprints.getFingerprint(large));
+
+        try (var file = new RandomAccessFile(copy.toFile(), "rw")) {
+            file.seek(ReportFingerprints.CHUNK_SIZE + 10L);
+            file.write(1);
+        }
+        Files.setLastModifiedTime(copy, FileTime.from(Instant.now().plusSeconds(60)));
+        assertThat(fingerprints.getFingerprint(copy)).isNotEqualTo(fingerprints.getFingerprint(large));
+    }
+}
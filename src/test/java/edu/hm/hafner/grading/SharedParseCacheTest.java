@@ -0,0 +1,127 @@
+package edu.hm.hafner.grading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.coverage.ModuleNode;
+import edu.hm.hafner.util.FilteredLog;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SharedParseCacheTest {
+    @TempDir
+    private Path workspace;
+    private final ReportFingerprints fingerprints = new ReportFingerprints();
+
+    @Test
+    void shouldParseFilesWithTheSameContentOnlyOnce() throws IOException {
+        var cache = new SharedParseCache(1000);
+        var first = createFile("first/checkstyle.xml", 100);
+        var second = createFile("second/checkstyle.xml", 100);
+        var parsed = new AtomicInteger();
+
+        var report = cache.getReport("checkstyle", first, fingerprints, file -> createReport(parsed));
+        var copy = cache.getReport("checkstyle", second, fingerprints, file -> createReport(parsed));
+
+        assertThat(parsed).hasValue(1);
+        assertThat(copy).isNotSameAs(report).hasSameSizeAs(report);
+        assertThat(cache.getHitCount()).isOne();
+        assertThat(cache.getMissCount()).isOne();
+        assertThat(cache.getWeight()).isEqualTo(100);
+        assertThat(cache.size()).isOne();
+
+        cache.getReport("pmd", second, fingerprints, file -> createReport(parsed));
+        assertThat(parsed).as("Another parser must not use the cached result").hasValue(2);
+
+        var node = cache.getNode("jacoco", first, fingerprints, file -> createNode("module"));
+        var cached = cache.getNode("jacoco", second, fingerprints, file -> createNode("other"));
+        assertThat(cached.getNode()).isNotSameAs(node.getNode()).isEqualTo(node.getNode());
+
+        var log = new FilteredLog("Errors");
+        cached.replayLog(log);
+        assertThat(log.getInfoMessages()).as("The parser log must be replayed for cached trees")
+                .containsExactly("Parsed module");
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntries() throws IOException {
+        var cache = new SharedParseCache(250);
+        var first = createFile("first.xml", 100);
+        var second = createFile("second.xml", 100);
+        var third = createFile("third.xml", 100);
+        var parsed = new AtomicInteger();
+
+        cache.getReport("checkstyle", first, fingerprints, file -> createReport(parsed));
+        cache.getReport("checkstyle", second, fingerprints, file -> createReport(parsed));
+        cache.getReport("checkstyle", first, fingerprints, file -> createReport(parsed)); // first is now the most recent entry
+        cache.getReport("checkstyle", third, fingerprints, file -> createReport(parsed));
+
+        assertThat(cache.getEvictionCount()).isOne();
+        assertThat(cache.getWeight()).isEqualTo(200);
+
+        cache.getReport("checkstyle", first, fingerprints, file -> createReport(parsed));
+        assertThat(parsed).hasValue(3);
+        cache.getReport("checkstyle", second, fingerprints, file -> createReport(parsed));
+        assertThat(parsed).hasValue(4);
+
+        cache.setMaxWeight(50);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getWeight()).isZero();
+    }
+
+    @Test
+    void shouldParseEveryFileIfDisabled() throws IOException {
+        var cache = new SharedParseCache(0);
+        var file = createFile("checkstyle.xml", 100);
+        var parsed = new AtomicInteger();
+
+        cache.getReport("checkstyle", file, fingerprints, path -> createReport(parsed));
+        cache.getReport("checkstyle", file, fingerprints, path -> createReport(parsed));
+
+        assertThat(parsed).hasValue(2);
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.getMissCount()).isZero();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldNotCacheEntriesThatAreLargerThanTheCache() throws IOException {
+        var cache = new SharedParseCache(50);
+        var file = createFile("checkstyle.xml", 100);
+        var parsed = new AtomicInteger();
+
+        cache.getReport("checkstyle", file, fingerprints, path -> createReport(parsed));
+        cache.getReport("checkstyle", file, fingerprints, path -> createReport(parsed));
+
+        assertThat(parsed).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldRejectNegativeWeight() {
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> new SharedParseCache(-1));
+    }
+
+    private Report createReport(final AtomicInteger counter) {
+        counter.incrementAndGet();
+        return new Report("checkstyle", "CheckStyle");
+    }
+
+    private ParsedNode createNode(final String name) {
+        var buffer = new LogBuffer();
+        buffer.getLog().logInfo("Parsed %s", name);
+        return new ParsedNode(new ModuleNode(name), buffer);
+    }
+
+    private Path createFile(final String fileName, final int size) throws IOException {
+        var file = workspace.resolve(fileName);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, fileName.substring(fileName.lastIndexOf('/') + 1).repeat(size).substring(0, size));
+    }
+}
@@ -0,0 +1,65 @@
+package edu.hm.hafner.grading;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.coverage.ClassNode;
+import edu.hm.hafner.coverage.ModuleNode;
+import edu.hm.hafner.coverage.TestCase;
+import edu.hm.hafner.coverage.TestCase.TestCaseBuilder;
+import edu.hm.hafner.coverage.TestCase.TestResult;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TestDeltaTest {
+    @Test
+    void shouldFindChangedTests() {
+        var reference = createReport(
+                TestResult.PASSED, TestResult.FAILED, TestResult.PASSED, TestResult.FAILED, TestResult.PASSED);
+        var current = createReport(
+                TestResult.FAILED, TestResult.PASSED, TestResult.SKIPPED, TestResult.FAILED, TestResult.PASSED,
+                TestResult.FAILED, TestResult.SKIPPED);
+
+        var delta = TestDelta.compute(current, reference);
+
+        assertThat(delta.getNewFailures()).map(TestCase::getTestName).containsExactly("test-0", "test-5");
+        assertThat(delta.getFixedTests()).map(TestCase::getTestName).containsExactly("test-1");
+        assertThat(delta.getNewSkippedTests()).map(TestCase::getTestName).containsExactly("test-2", "test-6");
+
+        var merged = TestDelta.merge(List.of(delta, TestDelta.EMPTY, delta));
+        assertThat(merged.getNewFailures()).hasSize(4);
+        assertThat(merged.getFixedTests()).hasSize(2);
+        assertThat(merged.getNewSkippedTests()).hasSize(4);
+    }
+
+    @Test
+    void shouldDistinguishTestsByClassName() {
+        var reference = new ModuleNode("reference");
+        var referenceClass = new ClassNode("First");
+        reference.addChild(referenceClass);
+        referenceClass.addTestCase(createTest("First", "test", TestResult.FAILED));
+
+        var current = new ModuleNode("current");
+        var currentClass = new ClassNode("Second");
+        current.addChild(currentClass);
+        currentClass.addTestCase(createTest("Second", "test", TestResult.FAILED));
+
+        assertThat(TestDelta.compute(current, reference).getNewFailures()).hasSize(1);
+        assertThat(TestDelta.compute(reference, reference).getNewFailures()).isEmpty();
+    }
+
+    private ModuleNode createReport(final TestResult... results) {
+        var root = new ModuleNode("root");
+        var tests = new ClassNode("Tests");
+        root.addChild(tests);
+        for (int i = 0; i < results.length; i++) {
+            tests.addTestCase(createTest("Tests", "test-" + i, results[i]));
+        }
+        return root;
+    }
+
+    private TestCase createTest(final String className, final String testName, final TestResult result) {
+        return new TestCaseBuilder().withClassName(className).withTestName(testName).withStatus(result).build();
+    }
+}
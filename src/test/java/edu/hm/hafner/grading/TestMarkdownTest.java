@@ -9,6 +9,7 @@ import edu.hm.hafner.coverage.Metric;
 import edu.hm.hafner.coverage.ModuleNode;
 import edu.hm.hafner.coverage.Node;
 import edu.hm.hafner.coverage.Rate;
+import edu.hm.hafner.coverage.TestCase;
 import edu.hm.hafner.coverage.TestCase.TestCaseBuilder;
 import edu.hm.hafner.util.FilteredLog;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -359,9 +360,19 @@ class TestMarkdownTest {
                             "- test-class-skipped-0#test-skipped-0",
                             "- test-class-skipped-1#test-skipped-1",
                             "- test-class-skipped-2#test-skipped-2",
+                            "### New Skipped Tests",
+                            "### New Failures",
+                            "__test-class-failed-4:test-failed-4__",
                             scope.getDisplayName())
                     .doesNotContain(IMPACT_CONFIGURATION)
-                    .doesNotContain("Impact");
+                    .doesNotContain("Impact")
+                    .doesNotContain("### Fixed Tests");
+            var details = getDetails(testMarkdown, score);
+            assertThat(details.indexOf("### New Failures")).isLessThan(details.indexOf("### Failures"));
+            assertThat(score.getTestScores().getFirst().getNewFailures())
+                    .map(TestCase::getTestName).containsExactly("test-failed-4");
+            assertThat(score.getTestScores().getFirst().getNewSkippedTests())
+                    .map(TestCase::getTestName).containsExactly("test-skipped-0", "test-skipped-1");
             assertThat(clean(testMarkdown.createSummary(score))).contains(
                     "Integrationstests (Whole Project):", "❌", "unstable",
                     "5 failed (+1), 4 passed (-1), 3 skipped (±0)",
@@ -379,7 +390,8 @@ class TestMarkdownTest {
                             "- test-class-skipped-2#test-skipped-2",
                             scope.getDisplayName())
                     .doesNotContain(IMPACT_CONFIGURATION)
-                    .doesNotContain("Impact");
+                    .doesNotContain("Impact")
+                    .doesNotContain("### New Failures", "### New Skipped Tests");
             assertThat(clean(testMarkdown.createSummary(score))).contains(
                     "Integrationstests", "❌", "unstable",
                     "5 failed, 4 passed, 3 skipped",
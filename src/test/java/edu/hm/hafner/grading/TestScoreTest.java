@@ -7,6 +7,7 @@ import edu.hm.hafner.coverage.ClassNode;
 import edu.hm.hafner.coverage.Metric;
 import edu.hm.hafner.coverage.ModuleNode;
 import edu.hm.hafner.coverage.Rate;
+import edu.hm.hafner.coverage.TestCase;
 import edu.hm.hafner.coverage.TestCase.TestCaseBuilder;
 import edu.hm.hafner.coverage.TestCase.TestResult;
 import edu.hm.hafner.grading.TestScore.TestScoreBuilder;
@@ -441,6 +442,72 @@ class TestScoreTest {
         assertThat(overflow).hasImpact(-10).hasValue(10).hasName("Aggregation");
     }
 
+    @Test
+    void shouldPartitionTestCasesOnce() {
+        var report = createTestReport(20, 3, 5);
+
+        var score = new TestScoreBuilder()
+                .setConfiguration(createConfiguration("""
+                {
+                  "tests": {
+                    "tools": [
+                        {
+                          "id": "tests",
+                          "name": "Tests",
+                          "pattern": "target/tests.xml"
+                        }
+                      ],
+                    "successRateImpact": 1,
+                    "maxScore": 100
+                  }
+                }
+                """))
+                .create(report, Metric.TESTS);
+
+        assertThat(score).hasPassedSize(20).hasSkippedSize(3).hasFailedSize(5).hasTotalSize(28);
+        assertThat(score.getFailures()).extracting(TestCase::getTestName)
+                .containsExactly("test-failed-0", "test-failed-1", "test-failed-2", "test-failed-3", "test-failed-4");
+        assertThat(score.getSkippedTests()).extracting(TestCase::getTestName)
+                .containsExactly("test-skipped-0", "test-skipped-1", "test-skipped-2");
+
+        // the partitions are created when the score is built, later changes of the report are not visible
+        ((ClassNode) report.getChildren().getFirst()).addTestCase(new TestCaseBuilder()
+                .withTestName("test-failed-later")
+                .withStatus(TestResult.FAILED).build());
+
+        assertThat(score.getFailures()).as("Partitions should be created only once")
+                .isSameAs(score.getFailures()).isUnmodifiable().hasSize(5);
+        assertThat(score.getSkippedTests()).isSameAs(score.getSkippedTests()).isUnmodifiable().hasSize(3);
+        assertThat(score).hasFailedSize(5).hasTotalSize(28);
+    }
+
+    @Test
+    void shouldPartitionLargeReport() {
+        var report = createTestReport(190_000, 5_000, 5_000);
+
+        var score = new TestScoreBuilder()
+                .setConfiguration(createConfiguration("""
+                {
+                  "tests": {
+                    "tools": [
+                        {
+                          "id": "tests",
+                          "name": "Tests",
+                          "pattern": "target/tests.xml"
+                        }
+                      ],
+                    "successRateImpact": 1,
+                    "maxScore": 100
+                  }
+                }
+                """))
+                .create(report, Metric.TESTS);
+
+        assertThat(score).hasPassedSize(190_000).hasSkippedSize(5_000).hasFailedSize(5_000).hasTotalSize(200_000);
+        assertThat(score.getFailures()).hasSize(5_000).isSameAs(score.getFailures());
+        assertThat(score.getSkippedTests()).hasSize(5_000).isSameAs(score.getSkippedTests());
+    }
+
     private TestConfiguration createConfiguration(final String json) {
         return TestConfiguration.from(json).getFirst();
     }
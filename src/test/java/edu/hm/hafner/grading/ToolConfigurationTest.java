@@ -22,6 +22,40 @@ class ToolConfigurationTest {
         assertThat(configuration).hasId("checkstyle").hasPattern("target/checkstyle.xml").hasScope(Scope.MODIFIED_LINES);
     }
 
+    @Test
+    void shouldBindTimeout() {
+        var toolConfiguration = """
+                {
+                  "id": "pmd",
+                  "pattern": "target/pmd.xml",
+                  "timeout": 30
+                }
+                """;
+
+        var mapper = Configuration.createMapper();
+        assertThat(mapper.readValue(toolConfiguration, ToolConfiguration.class)).hasTimeout(30);
+        assertThat(new ToolConfiguration("", "", "", "", "", "", "")).hasTimeout(0);
+        assertThat(new ToolConfiguration("", "", "", "", "", "", "", -1)).hasTimeout(0);
+    }
+
+    @Test
+    void shouldBindRetention() {
+        var toolConfiguration = """
+                {
+                  "id": "pmd",
+                  "pattern": "target/pmd.xml",
+                  "retention": "modified",
+                  "maxIssues": 100
+                }
+                """;
+
+        var mapper = Configuration.createMapper();
+        assertThat(mapper.readValue(toolConfiguration, ToolConfiguration.class))
+                .hasRetention(IssueRetention.MODIFIED).hasMaxIssues(100);
+        assertThat(new ToolConfiguration("", "", "", "", "", "", ""))
+                .hasRetention(IssueRetention.ALL).hasMaxIssues(0);
+    }
+
     @Test
     void shouldCreateTool() {
         var toolConfiguration = new ToolConfiguration("spotbugs", "SpotBugs", "target/spotbugsXml.xml", "", "", "", "");